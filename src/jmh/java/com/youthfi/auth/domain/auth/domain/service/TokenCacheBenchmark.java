@@ -0,0 +1,101 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.youthfi.auth.global.config.properties.TokenCacheProperties;
+import com.youthfi.auth.global.security.JwtKeyHolder;
+import com.youthfi.auth.global.security.JwtProperties;
+import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+import com.youthfi.auth.support.InMemoryRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 화이트리스트/블랙리스트 서비스 처리량 측정 (Redis 는 프로세스 내 대체 구현)
+ * 네트워크 비용을 뺀 서비스 자체의 비용(다이제스트 계산, 로컬 캐시, 블룸 필터)을 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenCacheBenchmark {
+
+    private static final String KEY = "benchmark-secret-key-for-jmh-only-must-be-long-enough";
+
+    private TokenWhitelistService tokenWhitelistService;
+    private TokenBlacklistService tokenBlacklistService;
+    private VerifiedToken verifiedToken;
+    private String accessToken;
+    private String blacklistedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setKey(KEY);
+        jwtProperties.setAccessTokenExpirationMs(900_000L);
+        jwtProperties.setRefreshTokenExpirationMs(1_209_600_000L);
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+
+        accessToken = tokenProvider.createAccessToken("benchmark-user");
+        blacklistedToken = tokenProvider.createAccessToken("blacklisted-user");
+        verifiedToken = tokenProvider.verify(accessToken).orElseThrow();
+
+        InMemoryRedisTemplate redisTemplate = new InMemoryRedisTemplate();
+        TokenCacheProperties properties = new TokenCacheProperties();
+        tokenWhitelistService = new TokenWhitelistService(redisTemplate, properties, new SimpleMeterRegistry());
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, properties, new AlwaysListening());
+
+        tokenWhitelistService.whitelist(verifiedToken);
+        tokenBlacklistService.blacklist(blacklistedToken, java.time.Duration.ofMinutes(15));
+        tokenBlacklistService.rebuildFilter();
+    }
+
+    @Benchmark
+    public Object whitelistFindLocal() {
+        return tokenWhitelistService.findLocal(accessToken);
+    }
+
+    @Benchmark
+    public boolean whitelistRedisLookup() {
+        return tokenWhitelistService.isWhitelistToken(accessToken);
+    }
+
+    @Benchmark
+    public void whitelistRegister() {
+        tokenWhitelistService.whitelist(verifiedToken);
+    }
+
+    @Benchmark
+    public boolean blacklistMiss() {
+        return tokenBlacklistService.isBlacklistToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean blacklistHit() {
+        return tokenBlacklistService.isBlacklistToken(blacklistedToken);
+    }
+
+    // 블룸 필터 경로를 측정하기 위해 pub/sub 구독 중인 것으로 간주
+    private static class AlwaysListening extends RedisSubscriptionManager {
+
+        AlwaysListening() {
+            super(new RedisMessageListenerContainer());
+        }
+
+        @Override
+        public synchronized boolean ensureListening() {
+            return true;
+        }
+    }
+}
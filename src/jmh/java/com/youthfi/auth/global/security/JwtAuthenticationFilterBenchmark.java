@@ -0,0 +1,101 @@
+package com.youthfi.auth.global.security;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.youthfi.auth.global.security.ExcludeAuthPathProperties.AuthPath;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * JwtAuthenticationFilter 제외 경로 판정 비용 측정
+ * application.yml 의 exclude-auth-path-patterns 와 같은 패턴 목록을 사용한다.
+ * legacy* 벤치마크는 요청마다 모든 패턴과 요청 경로를 다시 파싱하던 기존 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    static final List<AuthPath> EXCLUDE_PATHS = List.of(
+            new AuthPath("/api/auth/signup", "POST"),
+            new AuthPath("/api/auth/login", "POST"),
+            new AuthPath("/api/auth/login/*", "POST"),
+            new AuthPath("/api/auth/reissue", "POST"),
+            new AuthPath("/api/auth/verify", "POST"),
+            new AuthPath("/api/auth/oauth2/callback/**", "GET"),
+            new AuthPath("/api/email/**", "POST"),
+            new AuthPath("/swagger-ui.html", "GET"),
+            new AuthPath("/swagger-ui/index.html", "GET"),
+            new AuthPath("/swagger-ui/**", "GET"),
+            new AuthPath("/v3/api-docs", "GET"),
+            new AuthPath("/v3/api-docs/swagger-config", "GET"),
+            new AuthPath("/actuator/**", "GET"),
+            new AuthPath("/.well-known/**", "GET"),
+            new AuthPath("/**", "OPTIONS")
+    );
+
+    private final PathPatternParser pathPatternParser = new PathPatternParser();
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest loginRequest;
+    private MockHttpServletRequest actuatorRequest;
+
+    @Setup
+    public void setUp() {
+        filter = new JwtAuthenticationFilter(null, new ExcludeAuthPathProperties(EXCLUDE_PATHS), null, null);
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/user/profile");
+        loginRequest = new MockHttpServletRequest("POST", "/api/auth/login");
+        actuatorRequest = new MockHttpServletRequest("GET", "/actuator/prometheus");
+    }
+
+    // 가장 흔한 경우: 인증이 필요한 요청 → 모든 패턴을 확인한 뒤 false
+    @Benchmark
+    public boolean authenticatedPath() {
+        return filter.isExcludedPath(authenticatedRequest);
+    }
+
+    @Benchmark
+    public boolean loginPath() {
+        return filter.isExcludedPath(loginRequest);
+    }
+
+    @Benchmark
+    public boolean actuatorPath() {
+        return filter.isExcludedPath(actuatorRequest);
+    }
+
+    @Benchmark
+    public boolean legacyAuthenticatedPath() {
+        return legacyIsExcludedPath(authenticatedRequest);
+    }
+
+    @Benchmark
+    public boolean legacyLoginPath() {
+        return legacyIsExcludedPath(loginRequest);
+    }
+
+    private boolean legacyIsExcludedPath(HttpServletRequest request) {
+        String requestPath = request.getRequestURI();
+        HttpMethod requestMethod = HttpMethod.valueOf(request.getMethod());
+
+        return EXCLUDE_PATHS.stream()
+                .anyMatch(authPath ->
+                        pathPatternParser.parse(authPath.getPathPattern())
+                                .matches(PathContainer.parsePath(requestPath))
+                                && requestMethod.equals(HttpMethod.valueOf(authPath.getMethod()))
+                );
+    }
+}
@@ -0,0 +1,108 @@
+package com.youthfi.auth.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * TokenProvider 발급/검증/헤더 추출 처리량 측정
+ * legacy* 벤치마크는 매 호출마다 키와 파서를 새로 만들던 기존 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenProviderBenchmark {
+
+    private static final String KEY = "benchmark-secret-key-for-jmh-only-must-be-long-enough";
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private String accessToken;
+    private MockHttpServletRequest authorizedRequest;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setKey(KEY);
+        jwtProperties.setAccessTokenExpirationMs(900_000L);
+        jwtProperties.setRefreshTokenExpirationMs(1_209_600_000L);
+        jwtProperties.setVerificationExpirationMs(900_000L);
+
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+        accessToken = tokenProvider.createAccessToken("benchmark-user");
+        authorizedRequest = new MockHttpServletRequest("GET", "/api/user/profile");
+        authorizedRequest.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return tokenProvider.createAccessToken("benchmark-user");
+    }
+
+    @Benchmark
+    public boolean verifyAccessToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken getClaims() {
+        return tokenProvider.verify(accessToken).orElseThrow();
+    }
+
+    @Benchmark
+    public String getToken() {
+        return tokenProvider.getToken(authorizedRequest).orElseThrow();
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return tokenProvider.resolveToken(authorizedRequest);
+    }
+
+    @Benchmark
+    public String legacyGetToken() {
+        return Optional.ofNullable(authorizedRequest.getHeader("Authorization"))
+                .filter(token -> token.startsWith("Bearer "))
+                .map(token -> token.replace("Bearer ", ""))
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public String legacyIssueAccessToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuedAt(now)
+                .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenExpirationMs()))
+                .setSubject("AccessToken")
+                .claim("id", "benchmark-user")
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims legacyVerifyAccessToken() {
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+}
@@ -0,0 +1,98 @@
+package com.youthfi.auth.support;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * 벤치마크용 프로세스 내 Redis 대체 구현
+ * 토큰 캐시 서비스가 쓰는 명령(GET/SET/MGET/EXISTS/DEL/SCAN/PUBLISH)만 ConcurrentHashMap 으로 흉내 내어
+ * 네트워크 왕복을 뺀 서비스 자체의 처리량과 할당량을 측정한다. TTL 은 무시한다.
+ */
+public class InMemoryRedisTemplate extends RedisTemplate<String, String> {
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final ValueOperations<String, String> valueOperations = valueOperations(store);
+
+    @Override
+    public ValueOperations<String, String> opsForValue() {
+        return valueOperations;
+    }
+
+    @Override
+    public Boolean hasKey(String key) {
+        return store.containsKey(key);
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        return store.remove(key) != null;
+    }
+
+    @Override
+    public Long delete(Collection<String> keys) {
+        return keys.stream().filter(key -> store.remove(key) != null).count();
+    }
+
+    @Override
+    public Long convertAndSend(String channel, Object message) {
+        return 0L;
+    }
+
+    @Override
+    public Cursor<String> scan(ScanOptions options) {
+        String prefix = options.getPattern() == null ? "" : options.getPattern().replace("*", "");
+        List<String> keys = new ArrayList<>();
+        store.keySet().stream().filter(key -> key.startsWith(prefix)).forEach(keys::add);
+        return cursor(keys.iterator());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueOperations<String, String> valueOperations(Map<String, String> store) {
+        return (ValueOperations<String, String>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(),
+                new Class<?>[]{ValueOperations.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> store.get((String) args[0]);
+                    case "set" -> {
+                        if (args.length == 3 && !(args[2] instanceof Duration)) {
+                            throw new UnsupportedOperationException("set(key, value, offset)");
+                        }
+                        store.put((String) args[0], (String) args[1]);
+                        yield null;
+                    }
+                    case "multiGet" -> {
+                        List<String> values = new ArrayList<>();
+                        for (Object key : (Collection<?>) args[0]) {
+                            values.add(store.get((String) key));
+                        }
+                        yield values;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(Iterator<String> iterator) {
+        return (Cursor<String>) Proxy.newProxyInstance(
+                Cursor.class.getClassLoader(),
+                new Class<?>[]{Cursor.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hasNext" -> iterator.hasNext();
+                    case "next" -> iterator.next();
+                    case "close" -> null;
+                    case "isClosed" -> !iterator.hasNext();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,12 @@
+package com.youthfi.auth.domain.auth.application.dto.response;
+
+import java.time.Instant;
+
+public record SessionResponse(
+        String sessionId,
+        String device,
+        Instant createdAt,
+        Instant lastUsedAt,
+        Instant expiresAt,
+        boolean current
+) {}
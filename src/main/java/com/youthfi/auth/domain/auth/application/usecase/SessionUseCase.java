@@ -0,0 +1,53 @@
+package com.youthfi.auth.domain.auth.application.usecase;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+
+import com.youthfi.auth.domain.auth.application.dto.response.SessionResponse;
+import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
+import com.youthfi.auth.global.exception.RestApiException;
+import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.SESSION_NOT_FOUND;
+import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 세션(기기) 조회/폐기
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionUseCase {
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenProvider tokenProvider;
+
+    public List<SessionResponse> findSessions(String userId, HttpServletRequest request) {
+        // 필터에서 검증한 액세스 토큰을 재사용해 현재 세션 표시
+        String currentSessionId = tokenProvider.getToken(request)
+                .flatMap(token -> tokenProvider.resolveVerifiedToken(request, token))
+                .map(VerifiedToken::sessionId)
+                .orElse(null);
+        return refreshTokenService.findSessions(userId).stream()
+                .map(session -> new SessionResponse(
+                        session.sessionId(),
+                        session.device(),
+                        session.createdAt(),
+                        session.lastUsedAt(),
+                        session.expiresAt(),
+                        Objects.equals(session.sessionId(), currentSessionId)))
+                .toList();
+    }
+
+    /**
+     * 세션 폐기. 해당 기기는 리프레시 토큰으로 재발급할 수 없고, 발급된 액세스 토큰은 만료 시까지 유효하다.
+     */
+    public void revokeSession(String userId, String sessionId) {
+        if (!refreshTokenService.revokeSession(userId, sessionId)) {
+            throw new RestApiException(SESSION_NOT_FOUND);
+        }
+    }
+}
@@ -4,15 +4,19 @@ import java.time.Duration;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.youthfi.auth.domain.auth.application.dto.response.TokenReissueResponse;
-import com.youthfi.auth.domain.auth.domain.entity.User;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.Rotation;
 import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
 import com.youthfi.auth.domain.auth.domain.service.UserService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
 import com.youthfi.auth.global.exception.RestApiException;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.EXPIRED_MEMBER_JWT;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
 import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,28 +26,35 @@ import lombok.RequiredArgsConstructor;
 public class TokenReissueUseCase {
 
     private final TokenProvider tokenProvider;
-    private final RefreshTokenService refreshTokenService;
+    private final AuthTokenBatchService authTokenBatchService;
     private final UserService userService;
+    private final UserStatusService userStatusService;
 
     public TokenReissueResponse reissue(String refreshToken, String userId) {
-        // 존재 유무 검사
-        if (!refreshTokenService.isExist(refreshToken, userId)) {
+        if (!StringUtils.hasText(refreshToken)) {
             throw new RestApiException(INVALID_REFRESH_TOKEN);
         }
 
-        // 기존에 있는 토큰 삭제
-        refreshTokenService.deleteRefreshToken(userId);
-
         // 새 토큰 발급
-        User user = userService.findUser(userId);
-        String newAccessToken = tokenProvider.createAccessToken(userId);
-        String newRefreshToken = tokenProvider.createRefreshToken(userId);
-        Duration duration = tokenProvider.getRemainingDuration(refreshToken)
+        // 탈퇴/정지 여부는 tombstone 집합으로, 존재 여부는 프로필 캐시로 확인
+        if (!userStatusService.isActiveUser(userId)) {
+            throw new RestApiException(INVALID_REFRESH_TOKEN);
+        }
+        userService.findProfile(userId);
+        VerifiedToken verifiedToken = tokenProvider.verify(refreshToken)
                 .orElseThrow(() -> new RestApiException(EXPIRED_MEMBER_JWT));
+        Duration duration = verifiedToken.remainingDuration();
+        String sessionId = verifiedToken.sessionId() != null ? verifiedToken.sessionId() : RefreshTokenService.newSessionId();
+        String newAccessToken = tokenProvider.createAccessToken(userId, sessionId);
+        String newRefreshToken = tokenProvider.createRefreshToken(userId, sessionId);
+
+        // 비교 + 교체 + 기존 토큰 블랙리스트 등록 (원자적, Redis 왕복 1회)
+        // 불일치하거나 이미 교체된 토큰을 재사용한 경우(토큰 패밀리 폐기) 실패
+        Rotation rotation = authTokenBatchService.rotateRefreshToken(userId, sessionId, refreshToken, newRefreshToken, duration, duration);
+        if (!rotation.succeeded()) {
+            throw new RestApiException(INVALID_REFRESH_TOKEN);
+        }
 
-        // 저장
-        refreshTokenService.saveRefreshToken(userId, newRefreshToken, duration);
-
-        return new TokenReissueResponse(newAccessToken, newRefreshToken);
+        return new TokenReissueResponse(newAccessToken, rotation.refreshToken());
     }
 }
@@ -3,6 +3,7 @@ package com.youthfi.auth.domain.auth.application.usecase;
 import com.youthfi.auth.domain.auth.application.dto.request.UpdateProfileRequest;
 import com.youthfi.auth.domain.auth.application.dto.response.ProfileResponse;
 import com.youthfi.auth.domain.auth.domain.entity.User;
+import com.youthfi.auth.domain.auth.domain.service.LoginCredentialCache;
 import com.youthfi.auth.domain.auth.domain.service.UserService;
 import com.youthfi.auth.global.exception.RestApiException;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class UpdateProfileUseCase {
 
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginCredentialCache loginCredentialCache;
 
     public ProfileResponse update(String userId, UpdateProfileRequest request) {
         User user = userService.findUser(userId);
@@ -35,6 +37,11 @@ public class UpdateProfileUseCase {
         }
 
         user.updateProfile(request.name(), request.birth(), encodedNewPassword);
+        userService.evictProfile(userId);
+        if (encodedNewPassword != null) {
+            // 이전 비밀번호로 캐시된 로그인 성공 기록 제거
+            loginCredentialCache.invalidate(userId);
+        }
         return ProfileResponse.create(user);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import java.time.Duration;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.youthfi.auth.domain.auth.application.dto.request.LoginRequest;
@@ -12,25 +13,28 @@ import com.youthfi.auth.domain.auth.application.dto.request.TokenReissueRequest;
 import com.youthfi.auth.domain.auth.application.dto.response.LoginResponse;
 import com.youthfi.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.youthfi.auth.domain.auth.domain.entity.User;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.Rotation;
+import com.youthfi.auth.domain.auth.domain.service.LoginCredentialCache;
 import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
 import com.youthfi.auth.domain.auth.domain.service.TokenBlacklistService;
-import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
 import com.youthfi.auth.domain.auth.domain.service.UserService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
 import com.youthfi.auth.domain.email.domain.service.EmailVerificationService;
 import com.youthfi.auth.global.exception.RestApiException;
-import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_EMAIL;
-import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_USER_ID;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.EMPTY_JWT;
-import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.EXPIRED_REFRESH_TOKEN;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.INVALID_ACCESS_TOKEN;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.LOGIN_ERROR;
 import static com.youthfi.auth.global.exception.code.status.EmailErrorStatus.EMAIL_NOT_VERIFIED;
 import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -40,24 +44,19 @@ public class UserAuthUseCase {
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final TokenWhitelistService tokenWhitelistService;
     private final TokenBlacklistService tokenBlacklistService;
     private final EmailVerificationService emailVerificationService;
+    private final UserStatusService userStatusService;
+    private final AuthTokenBatchService authTokenBatchService;
+    private final LoginCredentialCache loginCredentialCache;
 
     public void signUp(SignUpRequest request) {
         // 이메일 인증 상태 확인
         if (!emailVerificationService.isEmailVerified(request.email())) {
             throw new RestApiException(EMAIL_NOT_VERIFIED);
         }
-        
-        if (userService.isAlreadyRegistered(request.email())) {
-            throw new RestApiException(ALREADY_REGISTERED_EMAIL);
-        }
-        if (userService.isUserIdAlreadyRegistered(request.userId())) {
-            throw new RestApiException(ALREADY_REGISTERED_USER_ID);
-        }
-        
-        // 회원가입 처리
+
+        // 회원가입 처리 (이메일/아이디 중복은 인코딩 전 exists 확인, 경쟁 시 유니크 제약으로 판단)
         userService.save(request);
         
         // 이메일 인증 상태 제거 (한 번만 사용 가능)
@@ -65,27 +64,67 @@ public class UserAuthUseCase {
     }
 
     public LoginResponse login(LoginRequest request) {
+        return login(request, null);
+    }
+
+    /**
+     * 로그인 후 새 세션(기기) 등록. 다른 기기의 세션은 유지된다.
+     * @param device 세션 목록에 보여줄 기기 정보 (User-Agent)
+     */
+    public LoginResponse login(LoginRequest request, String device) {
+        String userId = authenticate(request);
+        String sessionId = RefreshTokenService.newSessionId();
+        String access = tokenProvider.createAccessToken(userId, sessionId);
+        String refresh = tokenProvider.createRefreshToken(userId, sessionId);
+        Duration ttl = tokenProvider.getRemainingDuration(refresh).orElse(Duration.ofDays(14));
+        refreshTokenService.saveRefreshToken(userId, sessionId, refresh, ttl, device);
+        return new LoginResponse(access, refresh);
+    }
+
+    /**
+     * 아이디/비밀번호 검증 후 userId 반환
+     * 몇 초 안에 같은 자격 증명으로 성공한 적이 있으면 사용자 조회와 BCrypt 검증을 건너뛴다 (정지 여부는 다시 확인).
+     */
+    private String authenticate(LoginRequest request) {
+        if (loginCredentialCache.matches(request.userId(), request.password())
+                && userStatusService.isActiveUser(request.userId())) {
+            return request.userId();
+        }
         User user = userService.findByUserId(request.userId());
         if (!passwordEncoder.matches(request.password(), user.getPassword())) {
             throw new RestApiException(LOGIN_ERROR);
         }
-        String access = tokenProvider.createAccessToken(user.getUserId());
-        String refresh = tokenProvider.createRefreshToken(user.getUserId());
-        Duration ttl = tokenProvider.getRemainingDuration(refresh).orElse(Duration.ofDays(14));
-        refreshTokenService.saveRefreshToken(user.getUserId(), refresh, ttl);
-        return new LoginResponse(access, refresh);
+        upgradePasswordIfNeeded(user, request.password());
+        loginCredentialCache.put(user.getUserId(), request.password());
+        return user.getUserId();
+    }
+
+    /**
+     * 이전 형식/낮은 cost 해시면 로그인에 성공한 비밀번호로 다시 해시 (트랜잭션 커밋 시 반영)
+     * 해시 풀이 포화면 이번에는 건너뛰고 다음 로그인에 다시 시도한다.
+     */
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.upgradePassword(passwordEncoder.encode(rawPassword));
+        } catch (RestApiException e) {
+            log.debug("[UserAuthUseCase] password rehash skipped: userId={}, {}", user.getUserId(), e.getErrorCode().getCode());
+        }
     }
 
     public void logout(HttpServletRequest request) {
         String accessToken = tokenProvider.getToken(request)
                 .orElseThrow(() -> new RestApiException(EMPTY_JWT));
-        String userId = tokenProvider.getId(accessToken)
+        VerifiedToken verifiedToken = tokenProvider.resolveVerifiedToken(request, accessToken)
                 .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
-        Duration expiration = tokenProvider.getRemainingDuration(accessToken)
-                .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
-        refreshTokenService.deleteRefreshToken(userId);
-        tokenWhitelistService.deleteWhitelistToken(accessToken);
-        tokenBlacklistService.blacklist(accessToken, expiration);
+        String userId = verifiedToken.id();
+        if (userId == null) {
+            throw new RestApiException(INVALID_ACCESS_TOKEN);
+        }
+        // 현재 세션 삭제 + 화이트리스트 삭제 + 블랙리스트 등록을 Redis 왕복 1회로 처리 (다른 기기 세션은 유지)
+        authTokenBatchService.logout(userId, verifiedToken.sessionId(), accessToken, verifiedToken.remainingDuration());
     }
 
     /**
@@ -93,49 +132,39 @@ public class UserAuthUseCase {
      * @CurrentUser 어노테이션과 함께 사용하기 위한 메서드
      */
     public void logout(String userId) {
-        // 사용자의 리프레시 토큰만 삭제 (액세스 토큰은 만료 시까지 유효)
+        // 사용자의 모든 세션(리프레시 토큰)만 삭제 (액세스 토큰은 만료 시까지 유효)
         refreshTokenService.deleteRefreshToken(userId);
     }
 
     public TokenReissueResponse reissueToken(TokenReissueRequest request) {
         String refreshToken = request.refreshToken();
 
-        // 1. refresh token 유효성 검증
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new RestApiException(INVALID_REFRESH_TOKEN);
-        }
-
-        // 2. refresh token에서 userId 추출
-        String userId = tokenProvider.getId(refreshToken)
+        // 1. refresh token 검증 후 userId, 만료 시간 추출 (한 번만 파싱)
+        VerifiedToken verifiedToken = tokenProvider.verify(refreshToken)
                 .orElseThrow(() -> new RestApiException(INVALID_REFRESH_TOKEN));
-
-        // 3. Redis에 저장된 refresh token과 일치하는지 확인
-        String savedRefreshToken = refreshTokenService.findByUserId(userId);
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
+        String userId = verifiedToken.id();
+        if (userId == null) {
             throw new RestApiException(INVALID_REFRESH_TOKEN);
         }
+        Duration remainingTime = verifiedToken.remainingDuration();
+        // 세션 도입 전에 발급된 토큰이면 새 세션 ID 로 옮긴다
+        String sessionId = verifiedToken.sessionId() != null ? verifiedToken.sessionId() : RefreshTokenService.newSessionId();
 
-        // 4. refresh token 만료 시간 확인
-        Duration remainingTime = tokenProvider.getRemainingDuration(refreshToken)
-                .orElseThrow(() -> new RestApiException(EXPIRED_REFRESH_TOKEN));
-
-        // 5. 새로운 access token 발급
-        String newAccessToken = tokenProvider.createAccessToken(userId);
-
-        // 6. 새로운 refresh token 발급 (기존 것 교체)
-        String newRefreshToken = tokenProvider.createRefreshToken(userId);
+        // 2. 새로운 access/refresh token 발급 (같은 세션 유지)
+        String newAccessToken = tokenProvider.createAccessToken(userId, sessionId);
+        String newRefreshToken = tokenProvider.createRefreshToken(userId, sessionId);
         Duration newTtl = tokenProvider.getRemainingDuration(newRefreshToken).orElse(Duration.ofDays(14));
 
-        // 7. 기존 refresh token 삭제하고 새로운 것 저장
-        refreshTokenService.deleteRefreshToken(userId);
-        refreshTokenService.saveRefreshToken(userId, newRefreshToken, newTtl);
-
-        // 8. 기존 refresh token을 블랙리스트에 추가 (보안 강화)
-        tokenBlacklistService.blacklist(refreshToken, remainingTime);
+        // 3. 저장된 refresh token 과 일치할 때만 교체하고 기존 토큰은 블랙리스트에 추가 (원자적, Redis 왕복 1회)
+        //    이미 교체된 토큰이 다시 오면 재사용으로 보고 해당 세션을 폐기한다
+        Rotation rotation = authTokenBatchService.rotateRefreshToken(userId, sessionId, refreshToken, newRefreshToken, newTtl, remainingTime);
+        if (!rotation.succeeded()) {
+            throw new RestApiException(INVALID_REFRESH_TOKEN);
+        }
 
         return new TokenReissueResponse(
                 newAccessToken,
-                newRefreshToken
+                rotation.refreshToken()
         );
     }
 
@@ -145,18 +174,17 @@ public class UserAuthUseCase {
      * HTTP 401/403: 토큰 무효 (예외 발생)
      * @return 검증된 사용자 ID
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String verifyToken(HttpServletRequest request) {
         String accessToken = tokenProvider.getToken(request)
                 .orElseThrow(() -> new RestApiException(EMPTY_JWT));
 
-        // 1. 토큰 유효성 검증
-        if (!tokenProvider.validateToken(accessToken)) {
-            throw new RestApiException(INVALID_ACCESS_TOKEN);
-        }
+        // 1. 토큰 유효성 검증 (필터/리졸버와 같은 요청이면 파싱 결과 재사용)
+        VerifiedToken verifiedToken = tokenProvider.resolveVerifiedToken(request, accessToken)
+                .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
 
         // 2. Access Token인지 확인
-        if (!tokenProvider.isAccessToken(accessToken)) {
+        if (!verifiedToken.isAccessToken()) {
             throw new RestApiException(INVALID_ACCESS_TOKEN);
         }
 
@@ -166,11 +194,15 @@ public class UserAuthUseCase {
         }
 
         // 4. 사용자 ID 추출 및 사용자 존재 여부 확인
-        String userId = tokenProvider.getId(accessToken)
-                .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
-        
-        // 사용자가 존재하는지 확인 (탈퇴한 사용자의 토큰은 무효)
-        userService.findByUserId(userId);
+        String userId = verifiedToken.id();
+        if (userId == null) {
+            throw new RestApiException(INVALID_ACCESS_TOKEN);
+        }
+
+        // 탈퇴/정지된 사용자인지 확인 (메모리의 tombstone 집합, DB 조회 없음)
+        if (!userStatusService.isActiveUser(userId)) {
+            throw new RestApiException(INVALID_ACCESS_TOKEN);
+        }
         
         // 모든 검증을 통과하면 사용자 ID 반환
         return userId;
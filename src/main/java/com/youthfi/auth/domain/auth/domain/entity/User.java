@@ -1,13 +1,20 @@
 package com.youthfi.auth.domain.auth.domain.entity;
 
+import org.springframework.data.domain.Persistable;
+
+import com.youthfi.auth.domain.auth.domain.service.UserLifecycleListener;
 import com.youthfi.auth.global.common.BaseEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,16 +23,20 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@EntityListeners(UserLifecycleListener.class)
 @Table(
     name = "users",
     uniqueConstraints = {
-        @UniqueConstraint(name = "uk_provider_provider_user_id", columnNames = {"social_provider", "provider_user_id"})
+        @UniqueConstraint(name = "uk_provider_provider_user_id", columnNames = {"social_provider", "provider_user_id"}),
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
     }
 )
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class User extends BaseEntity {
+public class User extends BaseEntity implements Persistable<String> {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
 
     @Id
     @Column(nullable = false, unique = true)
@@ -34,7 +45,7 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -57,6 +68,26 @@ public class User extends BaseEntity {
     @Column
     private String profileImageUrl; // 프로필 이미지 URL
 
+    // userId 를 직접 지정하므로 save 시 merge(SELECT 후 INSERT) 대신 바로 INSERT 하도록 영속 여부를 직접 관리
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     public void linkSocial(SocialProvider provider, String providerUserId, Boolean emailVerified, String profileImageUrl) {
         this.socialProvider = provider;
         this.providerUserId = providerUserId;
@@ -71,4 +102,11 @@ public class User extends BaseEntity {
             this.password = encodedNewPassword;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 같은 비밀번호를 현재 해시 설정(알고리즘/cost)으로 다시 해시한 값으로 교체
+     */
+    public void upgradePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+}
@@ -1,5 +1,6 @@
 package com.youthfi.auth.domain.auth.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,14 +12,17 @@ import com.youthfi.auth.domain.auth.domain.entity.User;
 
 public interface UserRepository extends JpaRepository<User, String> {
 
-    @Query("select count(u) > 0 from User u where u.email = :email")
-    Boolean existsByEmail(@Param("email") String email);
+    // 파생 exists 쿼리: 건수를 세지 않고 첫 행만 확인 (limit 1)
+    boolean existsByEmail(String email);
 
     @Query("select u from User u where u.email = :email")
     Optional<User> findByEmail(@Param("email") String email);
 
-    @Query("select count(u) > 0 from User u where u.userId = :userId")
-    Boolean existsByUserId(@Param("userId") String userId);
+    boolean existsByUserId(String userId);
+
+    // 회원가입 중복 확인 1회 조회: 겹친 행의 이메일 (요청 이메일과 같으면 이메일 중복, 아니면 아이디 중복)
+    @Query("select u.email from User u where u.email = :email or u.userId = :userId")
+    List<String> findEmailsByEmailOrUserId(@Param("email") String email, @Param("userId") String userId);
 
     @Query("select u from User u where u.userId = :userId")
     Optional<User> findByUserId(@Param("userId") String userId);
@@ -0,0 +1,134 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.youthfi.auth.global.config.properties.SessionProperties;
+import com.youthfi.auth.global.util.TokenDigest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 키를 건드리는 토큰 상태 변경을 Lua 스크립트 하나로 묶어 Redis 왕복 1회로 처리
+ * 스크립트는 원자적으로 실행되므로 동시 재발급/로그아웃 사이의 경쟁도 막는다.
+ * Redis 반영 후 이 파드의 로컬 캐시(화이트리스트, 블룸 필터)는 바로 갱신하고, 다른 파드는 pub/sub 으로 반영한다.
+ */
+@Slf4j
+@Service
+public class AuthTokenBatchService {
+
+    private static final RedisScript<Long> LOGOUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/logout.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_REFRESH_TOKEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate-refresh-token.lua"), List.class);
+    private static final String ROTATION_GRACE_PREFIX = "REFRESH_TOKEN_GRACE:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenWhitelistService tokenWhitelistService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final SessionProperties sessionProperties;
+    private final Counter reuseCounter;
+
+    public AuthTokenBatchService(RedisTemplate<String, String> redisTemplate,
+                                 TokenWhitelistService tokenWhitelistService,
+                                 TokenBlacklistService tokenBlacklistService,
+                                 SessionProperties sessionProperties,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.tokenWhitelistService = tokenWhitelistService;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.sessionProperties = sessionProperties;
+        this.reuseCounter = Counter.builder("auth.refresh_token.reuse")
+                .description("이미 교체된 리프레시 토큰 재사용으로 토큰 패밀리를 폐기한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 삭제 + 액세스 토큰 화이트리스트 삭제 + 블랙리스트 등록
+     * @param sessionId 액세스 토큰의 세션 ID (세션 도입 전 토큰이면 null, 이전 형식 키만 삭제)
+     */
+    public void logout(String userId, String sessionId, String accessToken, Duration accessTokenRemaining) {
+        byte[] digest = TokenDigest.bytes(accessToken);
+        String encoded = TokenDigest.encode(digest);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(TokenBlacklistService.keyOf(encoded));
+        keys.add(RefreshTokenService.sessionsKeyOf(userId));
+        keys.add(TokenBlacklistService.indexKey);
+        keys.add(RefreshTokenService.keyOf(userId));
+        keys.addAll(tokenWhitelistService.redisKeysOf(accessToken));
+
+        tokenWhitelistService.invalidateLocal(accessToken);
+        redisTemplate.execute(LOGOUT_SCRIPT, keys, String.valueOf(accessTokenRemaining.toMillis()),
+                TokenBlacklistService.blacklistChannel, encoded, sessionId == null ? "" : sessionId,
+                String.valueOf(System.currentTimeMillis()));
+        tokenBlacklistService.addToFilter(digest);
+    }
+
+    /**
+     * 세션에 저장된 리프레시 토큰이 oldRefreshToken 과 같을 때만 newRefreshToken 으로 교체하고 이전 토큰을 블랙리스트에 등록
+     * 교체 후 rotation-grace-period 안에 같은 이전 토큰이 다시 오면 세션을 이번 newRefreshToken 으로 다시 교체하고(ALREADY_ROTATED),
+     * 그 뒤에 이미 교체된 토큰이 다시 오면(탈취 의심) 해당 세션을 삭제해 토큰 패밀리를 폐기한다.
+     * 유예 키에는 새 토큰의 다이제스트만 저장한다 (원문 토큰은 Redis 에 두지 않음). 중복 요청이면 마지막 응답의 토큰만 유효하다.
+     * @param sessionId 리프레시 토큰의 세션 ID (세션 도입 전 토큰이면 새로 발급한 ID, 이전 형식 키에서 옮겨진다)
+     */
+    public Rotation rotateRefreshToken(String userId, String sessionId, String oldRefreshToken,
+                                       String newRefreshToken, Duration newTtl, Duration oldRemaining) {
+        byte[] digest = TokenDigest.bytes(oldRefreshToken);
+        String encoded = TokenDigest.encode(digest);
+        long now = System.currentTimeMillis();
+
+        List<?> result = redisTemplate.execute(ROTATE_REFRESH_TOKEN_SCRIPT,
+                List.of(RefreshTokenService.sessionsKeyOf(userId), TokenBlacklistService.keyOf(encoded),
+                        RefreshTokenService.keyOf(userId), ROTATION_GRACE_PREFIX + encoded, TokenBlacklistService.indexKey),
+                sessionId, encoded, oldRefreshToken, TokenDigest.of(newRefreshToken),
+                String.valueOf(now + newTtl.toMillis()), String.valueOf(now), String.valueOf(newTtl.toMillis()),
+                String.valueOf(oldRemaining.toMillis()), TokenBlacklistService.blacklistChannel,
+                String.valueOf(sessionProperties.getRotationGracePeriod().toMillis()));
+        long code = result == null || result.isEmpty() ? 0 : ((Number) result.get(0)).longValue();
+        if (code == 1) {
+            tokenBlacklistService.addToFilter(digest);
+            return new Rotation(RotationResult.ROTATED, newRefreshToken);
+        }
+        if (code == 2) {
+            log.info("[AuthTokenBatchService] duplicate reissue within grace period, session re-rotated: userId={}, sessionId={}", userId, sessionId);
+            return new Rotation(RotationResult.ALREADY_ROTATED, newRefreshToken);
+        }
+        if (code < 0) {
+            reuseCounter.increment();
+            log.warn("[AuthTokenBatchService] refresh token reuse detected, session revoked: userId={}, sessionId={}", userId, sessionId);
+            return new Rotation(RotationResult.REUSED, null);
+        }
+        return new Rotation(RotationResult.MISMATCH, null);
+    }
+
+    /**
+     * @param refreshToken 클라이언트에 돌려줄 리프레시 토큰 (성공이면 새 토큰)
+     */
+    public record Rotation(RotationResult result, String refreshToken) {
+
+        public boolean succeeded() {
+            return result == RotationResult.ROTATED || result == RotationResult.ALREADY_ROTATED;
+        }
+    }
+
+    public enum RotationResult {
+        // 교체 성공
+        ROTATED,
+        // 유예 시간 안의 중복 요청 → 새 토큰으로 다시 교체 (세션 유지, 먼저 발급한 토큰은 무효)
+        ALREADY_ROTATED,
+        // 저장된 토큰 없음/불일치 (만료, 로그아웃, 세션 제거)
+        MISMATCH,
+        // 유예 시간이 지난 뒤 이미 교체된 토큰 재사용 → 세션(토큰 패밀리) 폐기
+        REUSED
+    }
+}
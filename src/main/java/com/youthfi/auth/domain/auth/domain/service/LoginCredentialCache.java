@@ -0,0 +1,138 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.youthfi.auth.global.cache.TwoLevelCache;
+import com.youthfi.auth.global.config.properties.LoginCacheProperties;
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 로그인에 성공한 자격 증명 캐시 (파드 로컬, 수 초 TTL)
+ * 불안정한 네트워크에서 같은 자격 증명으로 재시도할 때 사용자 조회와 BCrypt 검증을 건너뛴다.
+ * 비밀번호 원문이나 해시 대신 파드마다 새로 만든 키로 계산한 HMAC(userId, password) 만 보관하고,
+ * 비밀번호 변경 시 userId 로 바로 무효화할 수 있게 userId 를 키로 쓴다.
+ * 무효화는 프로필 캐시와 같은 채널(CACHE_EVICT_CHANNEL)로 다른 파드에 전파하고, 구독이 끊긴 동안에는 캐시를 쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class LoginCredentialCache implements MessageListener {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String EVICT_PREFIX = "loginCredentials:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final boolean enabled;
+    private final Cache<String, byte[]> cache;
+    private final ThreadLocal<Mac> hmac;
+
+    @Autowired
+    public LoginCredentialCache(LoginCacheProperties properties, MeterRegistry meterRegistry,
+                                RedisTemplate<String, String> redisTemplate, RedisSubscriptionManager redisSubscriptionManager) {
+        this(properties, meterRegistry, redisTemplate, redisSubscriptionManager, Ticker.systemTicker());
+    }
+
+    LoginCredentialCache(LoginCacheProperties properties, MeterRegistry meterRegistry,
+                         RedisTemplate<String, String> redisTemplate, RedisSubscriptionManager redisSubscriptionManager,
+                         Ticker ticker) {
+        this.redisTemplate = redisTemplate;
+        this.redisSubscriptionManager = redisSubscriptionManager;
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.login.credentials");
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec secretKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.hmac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(HMAC_ALGORITHM + " 을 사용할 수 없습니다.", e);
+            }
+        });
+        redisSubscriptionManager.addListener(this, new ChannelTopic(TwoLevelCache.EVICT_CHANNEL));
+    }
+
+    /**
+     * TTL 안에 같은 userId/password 로 로그인에 성공한 적이 있으면 true
+     * 구독이 끊겨 다른 파드의 무효화를 놓칠 수 있으면 false
+     */
+    public boolean matches(String userId, String password) {
+        if (!enabled || userId == null || password == null) {
+            return false;
+        }
+        if (!redisSubscriptionManager.isListening()) {
+            cache.invalidateAll();
+            return false;
+        }
+        byte[] cached = cache.getIfPresent(userId);
+        return cached != null && MessageDigest.isEqual(cached, mac(userId, password));
+    }
+
+    /**
+     * 검증에 성공한 자격 증명 기록
+     */
+    public void put(String userId, String password) {
+        if (enabled) {
+            cache.put(userId, mac(userId, password));
+        }
+    }
+
+    /**
+     * 비밀번호 변경/탈퇴 시 호출. 다른 파드에도 전파한다.
+     */
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(TwoLevelCache.EVICT_CHANNEL, EVICT_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("[LoginCredentialCache] invalidate not propagated, other pods keep it up to ttl: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 파드(또는 자신)가 발행한 무효화 메시지: 이 파드의 항목만 지운다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(EVICT_PREFIX)) {
+            cache.invalidate(body.substring(EVICT_PREFIX.length()));
+        }
+    }
+
+    private byte[] mac(String userId, String password) {
+        Mac mac = hmac.get();
+        mac.update(userId.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+    }
+}
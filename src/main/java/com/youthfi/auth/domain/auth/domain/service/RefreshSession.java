@@ -0,0 +1,41 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.time.Instant;
+
+/**
+ * 사용자의 로그인 세션(기기)별 리프레시 토큰 정보
+ * Redis 세션 해시에 "다이제스트|만료시각|마지막사용시각|생성시각|기기" 형식으로 저장한다.
+ */
+public record RefreshSession(String sessionId, String tokenDigest, Instant expiresAt,
+                             Instant lastUsedAt, Instant createdAt, String device) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        return tokenDigest + SEPARATOR + expiresAt.toEpochMilli() + SEPARATOR + lastUsedAt.toEpochMilli()
+                + SEPARATOR + createdAt.toEpochMilli() + SEPARATOR + (device == null ? "" : device);
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null
+     */
+    static RefreshSession decode(String sessionId, String value) {
+        String[] parts = value.split("\\|", 5);
+        if (parts.length < 5) {
+            return null;
+        }
+        try {
+            return new RefreshSession(sessionId, parts[0],
+                    Instant.ofEpochMilli(Long.parseLong(parts[1])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3])),
+                    parts[4].isEmpty() ? null : parts[4]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
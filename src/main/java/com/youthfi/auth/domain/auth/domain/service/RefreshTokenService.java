@@ -1,34 +1,111 @@
 package com.youthfi.auth.domain.auth.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.util.Objects;
+import com.youthfi.auth.global.config.properties.SessionProperties;
+import com.youthfi.auth.global.util.TokenDigest;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 세션(기기)별 리프레시 토큰 저장소
+ * 사용자당 Redis 해시 하나에 세션 ID → 리프레시 토큰 다이제스트/만료 시각을 저장하고,
+ * 세션 수를 max-per-user 로 제한해 (가장 오래 사용하지 않은 세션부터 제거) 모든 명령이 상수 크기로 동작한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
     private static final String refreshTokenPrefix = "REFRESH_TOKEN:";
+    private static final String sessionsPrefix = "REFRESH_SESSIONS:";
+    private static final RedisScript<Long> CREATE_SESSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/create-session.lua"), Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final SessionProperties sessionProperties;
 
-    public void saveRefreshToken(String userId, String refreshToken, Duration timeout) {
-        redisTemplate.opsForValue().set(refreshTokenPrefix + userId, refreshToken, timeout);
+    public static String newSessionId() {
+        return UUID.randomUUID().toString();
     }
 
+    /**
+     * 새 로그인 세션 등록 (최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션 제거)
+     * @param device 기기 정보 (User-Agent 등, 없으면 null)
+     */
+    public void saveRefreshToken(String userId, String sessionId, String refreshToken, Duration timeout, String device) {
+        Instant now = Instant.now();
+        RefreshSession session = new RefreshSession(sessionId, TokenDigest.of(refreshToken), now.plus(timeout),
+                now, now, truncate(device));
+        Long evicted = redisTemplate.execute(CREATE_SESSION_SCRIPT, List.of(sessionsKeyOf(userId)),
+                sessionId, session.encode(), String.valueOf(now.toEpochMilli()),
+                String.valueOf(sessionProperties.getMaxPerUser()), String.valueOf(timeout.toMillis()));
+        if (evicted != null && evicted > 0) {
+            log.info("[RefreshTokenService] session limit reached, evicted {} least recently used session(s): userId={}", evicted, userId);
+        }
+    }
+
+    /**
+     * 만료되지 않은 세션 목록 (최근 사용 순)
+     */
+    public List<RefreshSession> findSessions(String userId) {
+        Instant now = Instant.now();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(sessionsKeyOf(userId));
+        List<RefreshSession> sessions = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            RefreshSession session = RefreshSession.decode((String) entry.getKey(), (String) entry.getValue());
+            if (session != null && !session.isExpired(now)) {
+                sessions.add(session);
+            }
+        }
+        sessions.sort(Comparator.comparing(RefreshSession::lastUsedAt).reversed());
+        return sessions;
+    }
+
+    /**
+     * 세션 하나 폐기 (해당 기기의 리프레시 토큰으로 더 이상 재발급 불가)
+     * @return 세션이 있었으면 true
+     */
+    public boolean revokeSession(String userId, String sessionId) {
+        Long removed = redisTemplate.opsForHash().delete(sessionsKeyOf(userId), sessionId);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 사용자의 모든 세션 폐기
+     */
     public void deleteRefreshToken(String userId) {
-        redisTemplate.delete(refreshTokenPrefix + userId);
+        redisTemplate.delete(List.of(sessionsKeyOf(userId), keyOf(userId)));
+    }
+
+    static String sessionsKeyOf(String userId) {
+        return sessionsPrefix + userId;
     }
 
-    public String findByUserId(String userId) {
-        return redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
+    /**
+     * 세션 도입 전 형식(사용자당 단일 리프레시 토큰) 키. 남아 있는 토큰은 재발급 시 세션 해시로 옮긴다.
+     */
+    static String keyOf(String userId) {
+        return refreshTokenPrefix + userId;
     }
-    public boolean isExist(String token, String userId) {
-        String savedToken = redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
-        boolean exists = savedToken != null && Objects.equals(savedToken, token);
 
-        return exists;
+    private String truncate(String device) {
+        if (device == null || device.isBlank()) {
+            return null;
+        }
+        int max = sessionProperties.getDeviceMaxLength();
+        return device.length() > max ? device.substring(0, max) : device;
     }
-}
\ No newline at end of file
+}
@@ -33,6 +33,7 @@ public class SocialOAuthService {
     private final OAuthProviderProperties providerProps;
     private final OAuthClientProperties clientProps;
     private final UserRepository userRepository;
+    private final UserService userService;
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final RestClient restClient = RestClient.create();
@@ -167,10 +168,11 @@ public class SocialOAuthService {
     }
 
     private LoginResponse issueTokens(String userId) {
-        String access = tokenProvider.createAccessToken(userId);
-        String refresh = tokenProvider.createRefreshToken(userId);
+        String sessionId = RefreshTokenService.newSessionId();
+        String access = tokenProvider.createAccessToken(userId, sessionId);
+        String refresh = tokenProvider.createRefreshToken(userId, sessionId);
         Duration ttl = tokenProvider.getRemainingDuration(refresh).orElse(Duration.ofDays(14));
-        refreshTokenService.saveRefreshToken(userId, refresh, ttl);
+        refreshTokenService.saveRefreshToken(userId, sessionId, refresh, ttl, null);
         return new LoginResponse(access, refresh);
     }
 
@@ -204,6 +206,7 @@ public class SocialOAuthService {
             return userRepository.findByEmail(email)
                     .map(existing -> {
                         existing.linkSocial(provider, providerUserId, emailVerified, profileImageUrl);
+                        userService.evictProfile(existing.getUserId());
                         return userRepository.save(existing);
                     })
                     .orElseGet(() -> userRepository.save(toCreate));
@@ -1,30 +1,156 @@
 package com.youthfi.auth.domain.auth.domain.service;
 
-import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.youthfi.auth.global.config.properties.TokenCacheProperties;
+import com.youthfi.auth.global.util.BloomFilter;
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+import com.youthfi.auth.global.util.RedisSyncedSet;
+import com.youthfi.auth.global.util.TokenDigest;
+
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 토큰 블랙리스트
+ * 파드마다 블랙리스트 토큰 다이제스트의 블룸 필터를 유지하고, 필터가 "있을 수 있음"이라고 답한 경우에만 Redis 를 조회한다.
+ * 등록은 Redis pub/sub 으로 모든 파드에 전파되고, 누락/만료 정리를 위해 주기적으로 만료 시각 인덱스(ZSET)에서 필터를 다시 만든다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistService {
-    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenCacheProperties.Blacklist properties;
+    private final boolean legacyKeyRead;
     private final static String blacklistPrefix = "BLACKLIST:";
+    final static String blacklistChannel = "BLACKLIST_CHANNEL";
+    // 블랙리스트 다이제스트 → 만료 시각(ms). 필터 재구성 시 키스페이스 SCAN 대신 사용
+    final static String indexKey = "BLACKLIST_INDEX";
+    // 이전 형식 키를 인덱스로 옮겼는지 표시 (한 번만 SCAN)
+    private final static String legacyIndexedKey = "BLACKLIST_INDEX_LEGACY_MIGRATED";
+    private static final RedisScript<Long> BLACKLIST_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/blacklist-token.lua"), Long.class);
 
-    public boolean isBlacklistToken(String token) {
+    private final RedisSyncedSet<BloomFilter> filter;
+
+    public TokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+                                 TokenCacheProperties tokenCacheProperties,
+                                 RedisSubscriptionManager redisSubscriptionManager) {
+        this.redisTemplate = redisTemplate;
+        this.properties = tokenCacheProperties.getBlacklist();
+        this.legacyKeyRead = tokenCacheProperties.isLegacyKeyRead();
+        this.filter = new RedisSyncedSet<>("TokenBlacklist", redisSubscriptionManager, new ChannelTopic(blacklistChannel),
+                () -> new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate()),
+                (bloomFilter, digest) -> bloomFilter.put(TokenDigest.decode(digest)));
+    }
 
-        String savedToken = redisTemplate.opsForValue().get(blacklistPrefix + token);
-        boolean blacklisted = savedToken != null && Objects.equals(savedToken, token);
+    public boolean isBlacklistToken(String token) {
+        byte[] digest = TokenDigest.bytes(token);
+        BloomFilter current = filter.snapshot();
+        if (current != null && !current.mightContain(digest)) {
+            return false;
+        }
 
-        return blacklisted;
+        String digestKey = blacklistPrefix + TokenDigest.encode(digest);
+        if (!legacyKeyRead) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(digestKey));
+        }
+        // 마이그레이션 모드: 새 형식과 이전 형식(토큰 원문 키)을 한 번에 조회
+        List<String> saved = redisTemplate.opsForValue().multiGet(List.of(digestKey, blacklistPrefix + token));
+        return saved != null && (saved.get(0) != null || Objects.equals(saved.get(1), token));
     }
 
     public void blacklist(String token, Duration expiration) {
-        redisTemplate.opsForValue().set(blacklistPrefix + token, token, expiration);
+        byte[] digest = TokenDigest.bytes(token);
+        String encoded = TokenDigest.encode(digest);
+        redisTemplate.execute(BLACKLIST_SCRIPT, List.of(keyOf(encoded), indexKey),
+                String.valueOf(expiration.toMillis()), String.valueOf(System.currentTimeMillis()), encoded, blacklistChannel);
+        addToFilter(digest);
+    }
+
+    /**
+     * 블랙리스트 키: 토큰 원문 대신 고정 길이 다이제스트 사용
+     */
+    static String keyOf(String encodedDigest) {
+        return blacklistPrefix + encodedDigest;
+    }
+
+    /**
+     * Redis 의 블랙리스트 인덱스로 필터를 새로 만든다.
+     * 시작 직후 한 번, 이후 주기적으로 실행되어 pub/sub 누락분과 만료된 항목을 정리한다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auth.token-cache.blacklist.rebuild-interval:5m}")
+    public void rebuildFilter() {
+        long count = filter.reload(next -> {
+            if (legacyKeyRead) {
+                indexLegacyKeys();
+            }
+            redisTemplate.opsForZSet().removeRangeByScore(indexKey, 0, System.currentTimeMillis());
+            long loaded = 0;
+            ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+            try (Cursor<TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(indexKey, options)) {
+                while (cursor.hasNext()) {
+                    next.put(TokenDigest.decode(cursor.next().getValue()));
+                    loaded++;
+                }
+            }
+            return loaded;
+        });
+        if (count > properties.getExpectedInsertions()) {
+            log.warn("[TokenBlacklist] blacklist size {} exceeds expected insertions {}", count, properties.getExpectedInsertions());
+        }
+    }
+
+    /**
+     * 인덱스 도입 전에 등록된 키(토큰 원문 키 포함)를 남은 TTL 로 인덱스에 옮긴다.
+     * 마이그레이션 모드에서 한 번만 키스페이스를 SCAN 하고, 완료 표시 후에는 인덱스만 사용한다.
+     */
+    private void indexLegacyKeys() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(legacyIndexedKey))) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(blacklistPrefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl != null && ttl > 0) {
+                    redisTemplate.opsForZSet().add(indexKey, TokenDigest.encode(digestOfKey(key)), now + ttl);
+                    count++;
+                }
+            }
+        }
+        redisTemplate.opsForValue().set(legacyIndexedKey, String.valueOf(now));
+        log.info("[TokenBlacklist] legacy blacklist keys indexed: {} entries", count);
+    }
+
+    // 새 형식 키는 다이제스트를 그대로, 이전 형식 키는 토큰 원문을 해싱해서 사용
+    private static byte[] digestOfKey(String key) {
+        String suffix = key.substring(blacklistPrefix.length());
+        if (suffix.indexOf('.') < 0) {
+            return TokenDigest.decode(suffix);
+        }
+        return TokenDigest.bytes(suffix);
+    }
+
+    /**
+     * 다른 경로(배치 스크립트 등)로 Redis 에 등록한 항목을 이 파드의 필터에 바로 반영
+     */
+    void addToFilter(byte[] digest) {
+        filter.add(TokenDigest.encode(digest));
     }
-}
\ No newline at end of file
+}
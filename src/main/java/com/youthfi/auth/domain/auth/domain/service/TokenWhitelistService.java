@@ -1,32 +1,131 @@
 package com.youthfi.auth.domain.auth.domain.service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.youthfi.auth.global.config.properties.TokenCacheProperties;
+import com.youthfi.auth.global.security.VerifiedToken;
+import com.youthfi.auth.global.util.TokenDigest;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 토큰 화이트리스트
+ * 1차: 파드 로컬 캐시 (토큰 다이제스트 → 검증된 토큰), 2차: Redis (파드 간 공유)
+ */
 @Service
-@RequiredArgsConstructor
 public class TokenWhitelistService {
     private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final boolean legacyKeyRead;
+    private final Cache<String, VerifiedToken> localCache;
 
     private final static String whitelistPrefix = "WHITELIST:";
+    private final static String MARKER = "1";
+
+    public TokenWhitelistService(RedisTemplate<String, String> redisTemplate,
+                                 TokenCacheProperties tokenCacheProperties,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = tokenCacheProperties.getWhitelist().getTtl();
+        this.legacyKeyRead = tokenCacheProperties.isLegacyKeyRead();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(tokenCacheProperties.getWhitelist().getLocalMaxSize())
+                .expireAfter(new RemainingLifetimeExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "token.whitelist.local");
+    }
+
+    /**
+     * 로컬 캐시에서 검증된 토큰 조회 (네트워크 호출 없음)
+     */
+    public Optional<VerifiedToken> findLocal(String token) {
+        return Optional.ofNullable(localCache.getIfPresent(TokenDigest.of(token)));
+    }
 
     public boolean isWhitelistToken(String token) {
         // 너무 잦은 호출이라면 debug 로만 남겨두고
-        String saved = redisTemplate.opsForValue().get(whitelistPrefix + token);
-        boolean result = saved != null && saved.equals(token);
-        return result;
+        String digestKey = keyOf(TokenDigest.of(token));
+        if (!legacyKeyRead) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(digestKey));
+        }
+        // 마이그레이션 모드: 새 형식과 이전 형식(토큰 원문 키)을 한 번에 조회
+        List<String> saved = redisTemplate.opsForValue().multiGet(List.of(digestKey, whitelistPrefix + token));
+        return saved != null && (saved.get(0) != null || Objects.equals(saved.get(1), token));
     }
 
+    /**
+     * 로컬 캐시에만 등록 (Redis 에 이미 있는 경우)
+     */
+    public void cacheLocal(VerifiedToken verifiedToken) {
+        localCache.put(TokenDigest.of(verifiedToken.token()), verifiedToken);
+    }
+
+    /**
+     * 로컬 캐시와 Redis 에 모두 등록
+     */
+    public void whitelist(VerifiedToken verifiedToken) {
+        cacheLocal(verifiedToken);
+        whitelist(verifiedToken.token(), ttl);
+    }
 
     public void whitelist(String token, Duration timeout) {
-        redisTemplate.opsForValue().set(whitelistPrefix + token, token, timeout);
+        redisTemplate.opsForValue().set(keyOf(TokenDigest.of(token)), MARKER, timeout);
     }
 
     public void deleteWhitelistToken(String token) {
-        redisTemplate.delete(whitelistPrefix + token);
+        invalidateLocal(token);
+        redisTemplate.delete(redisKeysOf(token));
+    }
+
+    void invalidateLocal(String token) {
+        localCache.invalidate(TokenDigest.of(token));
+    }
+
+    /**
+     * 토큰의 Redis 키 (마이그레이션 모드에서는 이전 형식 키 포함)
+     */
+    List<String> redisKeysOf(String token) {
+        String digestKey = keyOf(TokenDigest.of(token));
+        return legacyKeyRead ? List.of(digestKey, whitelistPrefix + token) : List.of(digestKey);
+    }
+
+    /**
+     * 화이트리스트 키: 토큰 원문 대신 고정 길이 다이제스트 사용
+     */
+    static String keyOf(String encodedDigest) {
+        return whitelistPrefix + encodedDigest;
+    }
+
+    /**
+     * 로컬 엔트리 TTL = min(설정 TTL, 토큰 잔여 수명)
+     */
+    private record RemainingLifetimeExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingNanos = Math.max(0, value.remainingDuration().toNanos());
+            return Math.min(ttl.toNanos(), remainingNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
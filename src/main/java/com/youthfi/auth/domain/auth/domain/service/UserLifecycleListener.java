@@ -0,0 +1,58 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.youthfi.auth.domain.auth.domain.entity.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 삭제(하드 삭제, deleted() 로 표시한 탈퇴) 시 발급된 토큰이 verify 에서 바로 거부되도록 tombstone 등록
+ * 롤백된 삭제로 정상 사용자가 차단되지 않도록 트랜잭션 커밋 후에 반영한다.
+ * 프로필 캐시도 비워, 캐시로 존재 여부를 확인하는 경로(토큰 재발급 등)가 삭제된 사용자를 통과시키지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLifecycleListener {
+
+    private final UserStatusService userStatusService;
+    private final LoginCredentialCache loginCredentialCache;
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    void onUpdate(User user) {
+        if (user.isDeleted()) {
+            revokeAfterCommit(user.getUserId());
+        }
+    }
+
+    @PostRemove
+    void onRemove(User user) {
+        revokeAfterCommit(user.getUserId());
+    }
+
+    private void revokeAfterCommit(String userId) {
+        loginCredentialCache.invalidate(userId);
+        // 트랜잭션 인식 캐시 매니저라 트랜잭션 안이면 커밋 후에 비워진다
+        Cache profileCache = cacheManager.getCache(UserService.PROFILE_CACHE);
+        if (profileCache != null) {
+            profileCache.evict(userId);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userStatusService.revoke(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userStatusService.revoke(userId);
+            }
+        });
+    }
+}
@@ -1,5 +1,12 @@
 package com.youthfi.auth.domain.auth.domain.service;
 
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -8,6 +15,8 @@ import com.youthfi.auth.domain.auth.application.dto.response.ProfileResponse;
 import com.youthfi.auth.domain.auth.domain.entity.User;
 import com.youthfi.auth.domain.auth.domain.repository.UserRepository;
 import com.youthfi.auth.global.exception.RestApiException;
+import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_EMAIL;
+import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_USER_ID;
 import static com.youthfi.auth.global.exception.code.status.GlobalErrorStatus._NOT_FOUND;
 
 import lombok.RequiredArgsConstructor;
@@ -16,6 +25,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final String PROFILE_CACHE = "userProfile";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -29,15 +40,16 @@ public class UserService {
                 .orElseThrow(() -> new RestApiException(_NOT_FOUND));
     }
 
-    public boolean isAlreadyRegistered(String email) {
-        return userRepository.existsByEmail(email);
-    }
-
-    public boolean isUserIdAlreadyRegistered(String userId) {
-        return userRepository.existsByUserId(userId);
-    }
-
+    /**
+     * 이메일/아이디 중복을 한 번의 조회로 먼저 걸러 BCrypt 인코딩(제한된 풀 사용)을 아끼고 바로 INSERT 한다 (DB 왕복 2회).
+     * 확인과 INSERT 사이의 경쟁은 유니크 제약 위반을 중복 이메일/아이디 오류로 변환해 처리한다.
+     */
+    @CacheEvict(cacheNames = PROFILE_CACHE, key = "#request.userId()")
     public User save(SignUpRequest request) {
+        List<String> duplicates = userRepository.findEmailsByEmailOrUserId(request.email(), request.userId());
+        if (!duplicates.isEmpty()) {
+            throw new RestApiException(duplicates.contains(request.email()) ? ALREADY_REGISTERED_EMAIL : ALREADY_REGISTERED_USER_ID);
+        }
         User user = User.builder()
                 .userId(request.userId())
                 .email(request.email())
@@ -45,7 +57,31 @@ public class UserService {
                 .name(request.name())
                 .birth(request.birth())
                 .build();
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateException(e);
+        }
+    }
+
+    private static RuntimeException toDuplicateException(DataIntegrityViolationException e) {
+        String violated = violatedConstraint(e);
+        if (violated.contains(User.EMAIL_UNIQUE_CONSTRAINT)) {
+            return new RestApiException(ALREADY_REGISTERED_EMAIL);
+        }
+        if (violated.contains("primary")) {
+            return new RestApiException(ALREADY_REGISTERED_USER_ID);
+        }
+        return e;
+    }
+
+    // 제약 이름(Hibernate 가 추출한 값)이 없으면 드라이버 메시지로 판단
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        String name = e.getCause() instanceof ConstraintViolationException violation ? violation.getConstraintName() : null;
+        if (name == null) {
+            name = String.valueOf(e.getMostSpecificCause().getMessage());
+        }
+        return name.toLowerCase(Locale.ROOT);
     }
 
     public User findUser(String userId) {
@@ -53,9 +89,21 @@ public class UserService {
                 .orElseThrow(() -> new RestApiException(_NOT_FOUND));
     }
 
+    /**
+     * 프로필 조회 (캐시). 엔티티 대신 불변 DTO 를 캐시해 변경 감지/비밀번호 해시와 분리한다.
+     * 존재 여부만 확인하는 경로(토큰 재발급 등)도 이 메서드를 사용한다.
+     */
+    @Cacheable(cacheNames = PROFILE_CACHE, key = "#userId", sync = true)
     public ProfileResponse findProfile(String userId) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new RestApiException(_NOT_FOUND));
         return ProfileResponse.create(user);
     }
+
+    /**
+     * 프로필이 바뀐 경우(수정, 소셜 계정 연결) 호출. 트랜잭션 안이면 커밋 후에 무효화된다.
+     */
+    @CacheEvict(cacheNames = PROFILE_CACHE, key = "#userId")
+    public void evictProfile(String userId) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+import com.youthfi.auth.global.util.RedisSyncedSet;
+
+/**
+ * 토큰 검증 시 사용자 상태 확인 (탈퇴/정지 사용자 tombstone)
+ * 탈퇴/정지된 사용자 ID 집합을 Redis Set 에 두고, 파드마다 메모리에 복제해 DB 조회 없이 판정한다.
+ * 사용자 삭제(탈퇴 처리 포함)는 UserLifecycleListener 가 커밋 후 revoke 로 등록한다.
+ */
+@Service
+public class UserStatusService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final static String revokedUsersKey = "REVOKED_USERS";
+    private final static String revokedUsersChannel = "REVOKED_USERS_CHANNEL";
+
+    private final RedisSyncedSet<Set<String>> revokedUsers;
+
+    public UserStatusService(RedisTemplate<String, String> redisTemplate,
+                             RedisSubscriptionManager redisSubscriptionManager) {
+        this.redisTemplate = redisTemplate;
+        this.revokedUsers = new RedisSyncedSet<>("UserStatus", redisSubscriptionManager, new ChannelTopic(revokedUsersChannel),
+                ConcurrentHashMap::newKeySet, Set::add);
+    }
+
+    public boolean isActiveUser(String userId) {
+        Set<String> current = revokedUsers.snapshot();
+        if (current != null) {
+            return !current.contains(userId);
+        }
+        return !Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(revokedUsersKey, userId));
+    }
+
+    /**
+     * 탈퇴/정지 처리 시 호출. 이후 해당 사용자의 토큰은 verify 에서 거부된다.
+     */
+    public void revoke(String userId) {
+        redisTemplate.opsForSet().add(revokedUsersKey, userId);
+        revokedUsers.add(userId);
+        redisTemplate.convertAndSend(revokedUsersChannel, userId);
+    }
+
+    /**
+     * Redis 의 차단 사용자 집합을 다시 읽는다.
+     * 시작 직후 한 번, 이후 주기적으로 실행되어 pub/sub 누락분을 보정한다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auth.verify.revoked-users-reload-interval:5m}")
+    public void reload() {
+        revokedUsers.reload(next -> {
+            ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.opsForSet().scan(revokedUsersKey, options)) {
+                while (cursor.hasNext()) {
+                    next.add(cursor.next());
+                }
+            }
+            return next.size();
+        });
+    }
+}
@@ -1,9 +1,14 @@
 package com.youthfi.auth.domain.auth.ui;
 
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -12,7 +17,9 @@ import com.youthfi.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.youthfi.auth.domain.auth.application.dto.request.SocialLoginRequest;
 import com.youthfi.auth.domain.auth.application.dto.request.TokenReissueRequest;
 import com.youthfi.auth.domain.auth.application.dto.response.LoginResponse;
+import com.youthfi.auth.domain.auth.application.dto.response.SessionResponse;
 import com.youthfi.auth.domain.auth.application.dto.response.TokenReissueResponse;
+import com.youthfi.auth.domain.auth.application.usecase.SessionUseCase;
 import com.youthfi.auth.domain.auth.application.usecase.SocialAuthUseCase;
 import com.youthfi.auth.domain.auth.application.usecase.UserAuthUseCase;
 import com.youthfi.auth.global.annotation.CurrentUser;
@@ -32,6 +39,7 @@ public class AuthController implements AuthApi {
 
     private final UserAuthUseCase userAuthUseCase;
     private final SocialAuthUseCase socialAuthUseCase;
+    private final SessionUseCase sessionUseCase;
 
     @PostMapping("/signup")
     @Override
@@ -42,8 +50,9 @@ public class AuthController implements AuthApi {
 
     @PostMapping("/login")
     @Override
-    public BaseResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        return BaseResponse.onSuccess(userAuthUseCase.login(request));
+    public BaseResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                             @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent) {
+        return BaseResponse.onSuccess(userAuthUseCase.login(request, userAgent));
     }
 
     @DeleteMapping("/logout")
@@ -62,6 +71,21 @@ public class AuthController implements AuthApi {
         return BaseResponse.onSuccess();
     }
 
+    @GetMapping("/sessions")
+    @Override
+    public BaseResponse<List<SessionResponse>> getSessions(@Parameter(hidden = true) @CurrentUser String userId,
+                                                           HttpServletRequest request) {
+        return BaseResponse.onSuccess(sessionUseCase.findSessions(userId, request));
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    @Override
+    public BaseResponse<Void> revokeSession(@Parameter(hidden = true) @CurrentUser String userId,
+                                            @PathVariable String sessionId) {
+        sessionUseCase.revokeSession(userId, sessionId);
+        return BaseResponse.onSuccess();
+    }
+
     @PostMapping("/reissue")
     @Override
     public BaseResponse<TokenReissueResponse> reissueToken(@Valid @RequestBody TokenReissueRequest request) {
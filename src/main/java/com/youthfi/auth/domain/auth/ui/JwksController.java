@@ -0,0 +1,34 @@
+package com.youthfi.auth.domain.auth.ui;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.youthfi.auth.global.security.JwtKeyHolder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 서비스/Ingress 가 토큰을 직접 검증할 수 있도록 공개 키를 JWKS(RFC 7517) 형식으로 제공
+ * 표준 형식을 따라야 하므로 BaseResponse 로 감싸지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final CacheControl JWKS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final JwtKeyHolder jwtKeyHolder;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(JWKS_CACHE_CONTROL)
+                .body(Map.of("keys", jwtKeyHolder.getJwks()));
+    }
+}
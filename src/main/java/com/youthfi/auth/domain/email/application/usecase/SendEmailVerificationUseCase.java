@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.youthfi.auth.domain.email.application.dto.request.SendVerificationRequest;
 import com.youthfi.auth.domain.email.domain.service.EmailService;
 import com.youthfi.auth.global.exception.RestApiException;
+import com.youthfi.auth.global.ratelimit.RateLimitResult;
 import static com.youthfi.auth.global.exception.code.status.EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE;
 import static com.youthfi.auth.global.exception.code.status.EmailErrorStatus.EMAIL_DAILY_LIMIT_EXCEEDED;
 import static com.youthfi.auth.global.exception.code.status.EmailErrorStatus.EMAIL_SEND_FAILED;
@@ -21,15 +22,19 @@ public class SendEmailVerificationUseCase {
 
     private final EmailService emailService;
 
-    public void sendVerification(SendVerificationRequest request) {
+    public RateLimitResult sendVerification(SendVerificationRequest request) {
         String email = request.email();
         
         log.info("이메일 인증 발송 요청: {}", email);
         
         try {
             // 이메일 발송 (Rate Limiting 포함)
-            emailService.sendVerificationCode(email);
-            log.info("이메일 인증 발송 완료: {}", email);
+            RateLimitResult rateLimit = emailService.sendVerificationCode(email);
+            log.info("이메일 인증 발송 요청 완료: {}", email);
+            return rateLimit;
+        } catch (RestApiException e) {
+            // 쿨다운/일일 횟수 초과 등 이미 응답 코드가 정해진 경우
+            throw e;
         } catch (RuntimeException e) {
             log.error("이메일 인증 발송 실패: {} - {}", email, e.getMessage());
             
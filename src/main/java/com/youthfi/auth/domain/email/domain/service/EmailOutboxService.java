@@ -0,0 +1,53 @@
+package com.youthfi.auth.domain.email.domain.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.youthfi.auth.global.config.properties.EmailDispatchProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일 발송 아웃박스 (Redis Stream)
+ * 요청 스레드는 스트림에 발송 메시지만 등록하고, 실제 발송은 모든 파드의 EmailOutboxWorker 가 consumer group 으로 나눠 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    static final String STREAM_KEY = "EMAIL_OUTBOX";
+    static final String DEAD_LETTER_KEY = "EMAIL_OUTBOX_DLQ";
+    static final String GROUP = "email-senders";
+    static final String TYPE_FIELD = "type";
+    static final String TO_FIELD = "to";
+    static final String CODE_FIELD = "code";
+    static final String LOCALE_FIELD = "locale";
+    static final String TYPE_VERIFICATION = "verification";
+
+    private static final RedisScript<String> ENQUEUE_VERIFICATION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/enqueue-verification-email.lua"), String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailDispatchProperties properties;
+
+    /**
+     * 인증 코드 저장과 발송 메시지 등록을 Redis 스크립트 1회로 처리
+     * 파드가 중간에 죽어도 "코드는 저장됐는데 메일은 없는" 상태가 생기지 않는다.
+     * @param locale 메일 언어 (요청의 Accept-Language)
+     * @return 스트림 메시지 ID
+     */
+    public String enqueueVerification(String email, String code, Locale locale) {
+        return redisTemplate.execute(ENQUEUE_VERIFICATION_SCRIPT,
+                List.of(EmailVerificationService.codeKeyOf(email), STREAM_KEY),
+                code,
+                String.valueOf(EmailVerificationService.VERIFICATION_CODE_TTL_SECONDS),
+                String.valueOf(properties.getMaxLength()),
+                email,
+                locale.toLanguageTag());
+    }
+}
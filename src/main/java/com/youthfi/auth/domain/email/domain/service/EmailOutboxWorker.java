@@ -0,0 +1,343 @@
+package com.youthfi.auth.domain.email.domain.service;
+
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.CODE_FIELD;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.DEAD_LETTER_KEY;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.GROUP;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.LOCALE_FIELD;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.STREAM_KEY;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.TO_FIELD;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.TYPE_FIELD;
+import static com.youthfi.auth.domain.email.domain.service.EmailOutboxService.TYPE_VERIFICATION;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.youthfi.auth.global.config.properties.EmailDispatchProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 아웃박스 스트림 소비자
+ * 모든 파드가 같은 consumer group 으로 스트림을 나눠 읽으므로 발송 처리량은 요청 스레드가 아니라 파드 수에 비례한다.
+ * 한 번에 읽은 메일은 SMTP 연결 1개로 연속 발송하고, 성공한 메일만 ACK 후 스트림에서 삭제한다.
+ * 실패했거나 죽은 파드가 들고 있던 메일은 대기 목록(PEL)에 남고, reclaim 이 백오프 후 가져와 발송 스레드에 넘기며
+ * max-attempts 를 넘으면 dead-letter 스트림으로 옮긴다. reclaim 은 스케줄러 스레드에서 SMTP 발송을 하지 않는다.
+ * 형식이 잘못돼 메일을 만들 수 없는 메시지는 재시도해도 같으므로 바로 dead-letter 스트림으로 옮긴다.
+ */
+@Slf4j
+@Service
+public class EmailOutboxWorker implements SmartLifecycle {
+
+    private static final long RECLAIM_SCAN_LIMIT = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JavaMailSender mailSender;
+    private final EmailService emailService;
+    private final EmailDispatchProperties properties;
+    private final String consumerPrefix;
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+    private final Counter deadLetterCounter;
+    private final AtomicLong pending = new AtomicLong();
+    // reclaim 이 가져온 재시도 메일. 발송 스레드가 새 메일을 읽기 전에 먼저 처리한다
+    private final BlockingQueue<List<MapRecord<String, Object, Object>>> retries = new LinkedBlockingQueue<>();
+
+    private volatile ExecutorService workers;
+    private volatile boolean running;
+    private volatile boolean groupReady;
+
+    public EmailOutboxWorker(RedisTemplate<String, String> redisTemplate, JavaMailSender mailSender, EmailService emailService,
+                             EmailDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.mailSender = mailSender;
+        this.emailService = emailService;
+        this.properties = properties;
+        this.consumerPrefix = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("local")
+                + "-" + UUID.randomUUID().toString().substring(0, 8);
+        // 스트림 등록 시점부터 발송 완료(또는 실패)까지 걸린 시간
+        this.sentTimer = sendTimer(meterRegistry, "success");
+        this.failedTimer = sendTimer(meterRegistry, "failure");
+        this.deadLetterCounter = Counter.builder("email.outbox.dead_lettered")
+                .description("재시도 횟수를 넘겼거나 형식이 잘못돼 dead-letter 스트림으로 옮긴 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("읽었지만 아직 발송 완료(ACK)되지 않은 메일 수 (reclaim 주기마다 갱신)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("email-outbox-"));
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            String consumer = consumerPrefix + "-" + i;
+            workers.execute(() -> work(consumer));
+        }
+    }
+
+    @Override
+    public void stop() {
+        // 진행 중인 발송만 마치고 종료. 읽지 않은 메일은 스트림에, 발송 못 한 메일은 PEL 에 남아 다른 파드가 처리한다.
+        running = false;
+        ExecutorService current = workers;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work(String consumer) {
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> retry = retries.poll();
+                if (retry != null) {
+                    deliver(retry);
+                } else {
+                    poll(consumer);
+                }
+            } catch (Exception e) {
+                groupReady = false;
+                log.warn("[EmailOutbox] poll failed, retry in {}: {}", properties.getReclaimInterval(), e.getMessage());
+                sleep(properties.getReclaimInterval());
+            }
+        }
+    }
+
+    /**
+     * 새 메일을 batch-size 만큼 읽어(최대 poll-timeout 대기) 발송
+     */
+    @SuppressWarnings("unchecked") // StreamOffset 가변 인자
+    void poll(String consumer) {
+        ensureGroup();
+        List<MapRecord<String, Object, Object>> records = redisTemplate.<Object, Object>opsForStream().read(
+                Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(properties.getBatchSize()).block(properties.getPollTimeout()),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        if (records != null && !records.isEmpty()) {
+            deliver(records);
+        }
+    }
+
+    /**
+     * 백오프가 지난 미처리 메일을 가져와 발송 스레드에 넘기고, 재시도 횟수를 넘긴 메일은 dead-letter 스트림으로 옮긴다.
+     * XCLAIM 의 min-idle 조건 덕분에 여러 파드가 동시에 실행해도 한 파드만 가져간다.
+     * 이전에 넘긴 재시도 메일이 아직 발송되지 않았으면 새로 가져오지 않는다.
+     */
+    @Scheduled(initialDelayString = "${email.dispatch.reclaim-interval:5s}", fixedDelayString = "${email.dispatch.reclaim-interval:5s}")
+    public void reclaim() {
+        try {
+            ensureGroup();
+            StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+            pending.set(ops.pending(STREAM_KEY, GROUP).getTotalPendingMessages());
+            if (!retries.isEmpty()) {
+                return;
+            }
+            PendingMessages candidates = ops.pending(STREAM_KEY, GROUP, Range.unbounded(), RECLAIM_SCAN_LIMIT);
+            List<MapRecord<String, Object, Object>> retry = new ArrayList<>();
+            for (PendingMessage message : candidates) {
+                Duration backoff = backoff(message.getTotalDeliveryCount());
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(backoff) < 0) {
+                    continue;
+                }
+                List<MapRecord<String, Object, Object>> claimed =
+                        ops.claim(STREAM_KEY, GROUP, consumerPrefix + "-reclaim", backoff, message.getId());
+                if (claimed == null || claimed.isEmpty()) {
+                    continue;
+                }
+                if (message.getTotalDeliveryCount() >= properties.getMaxAttempts()) {
+                    deadLetter(ops, claimed.get(0), message.getTotalDeliveryCount(), "max attempts exceeded");
+                } else {
+                    retry.addAll(claimed);
+                }
+            }
+            for (int from = 0; from < retry.size(); from += properties.getBatchSize()) {
+                retries.add(List.copyOf(retry.subList(from, Math.min(retry.size(), from + properties.getBatchSize()))));
+            }
+        } catch (Exception e) {
+            groupReady = false;
+            log.warn("[EmailOutbox] reclaim failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 메일을 SMTP 연결 1개로 연속 발송하고 성공한 메일만 ACK + 삭제. 실패한 메일은 PEL 에 남겨 reclaim 에서 재시도한다.
+     * 메일을 만들 수 없는 메시지는 발송 전에 dead-letter 스트림으로 옮기고 ACK 한다.
+     */
+    void deliver(List<MapRecord<String, Object, Object>> records) {
+        Map<MimeMessage, MapRecord<String, Object, Object>> mails = new IdentityHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                mails.put(toMail(record.getValue()), record);
+            } catch (Exception e) {
+                rejectInvalid(record, e);
+            }
+        }
+        if (mails.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failed = Map.of();
+        try {
+            // JavaMailSenderImpl 은 여러 메일을 한 번에 넘기면 같은 Transport 연결로 보낸다
+            mailSender.send(mails.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failed = e.getFailedMessages().isEmpty() ? allFailed(mails, e) : e.getFailedMessages();
+        } catch (Exception e) {
+            failed = allFailed(mails, e);
+        }
+
+        long now = System.currentTimeMillis();
+        List<RecordId> delivered = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MapRecord<String, Object, Object>> entry : mails.entrySet()) {
+            RecordId id = entry.getValue().getId();
+            Exception failure = failed.get(entry.getKey());
+            (failure == null ? sentTimer : failedTimer).record(Math.max(0, now - id.getTimestamp()), TimeUnit.MILLISECONDS);
+            if (failure == null) {
+                delivered.add(id);
+            } else {
+                log.warn("[EmailOutbox] send failed id={}, will retry: {}", id, failure.getMessage());
+            }
+        }
+        if (!delivered.isEmpty()) {
+            RecordId[] ids = delivered.toArray(RecordId[]::new);
+            StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+            ops.acknowledge(STREAM_KEY, GROUP, ids);
+            // 인증 코드가 스트림에 남지 않도록 발송한 메시지는 바로 삭제
+            ops.delete(STREAM_KEY, ids);
+        }
+    }
+
+    // 실패하면 PEL 에 남아 max-attempts 후 reclaim 이 옮긴다
+    private void rejectInvalid(MapRecord<String, Object, Object> record, Exception cause) {
+        log.error("[EmailOutbox] invalid message id={}: {}", record.getId(), cause.getMessage());
+        try {
+            deadLetter(redisTemplate.opsForStream(), record, 1, "invalid: " + cause.getMessage());
+        } catch (Exception e) {
+            log.warn("[EmailOutbox] dead-letter failed id={}, left pending: {}", record.getId(), e.getMessage());
+        }
+    }
+
+    private void deadLetter(StreamOperations<String, Object, Object> ops, MapRecord<String, Object, Object> record,
+                            long attempts, String reason) {
+        Map<Object, Object> fields = new LinkedHashMap<>(record.getValue());
+        fields.remove(CODE_FIELD); // 만료될 코드는 보관하지 않는다
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("attempts", String.valueOf(attempts));
+        fields.put("reason", String.valueOf(reason));
+        ops.add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(fields));
+        ops.acknowledge(STREAM_KEY, GROUP, record.getId());
+        ops.delete(STREAM_KEY, record.getId());
+        deadLetterCounter.increment();
+        log.error("[EmailOutbox] moved to dead-letter ({}) after {} attempts: id={}, to={}",
+                reason, attempts, record.getId(), fields.get(TO_FIELD));
+    }
+
+    private MimeMessage toMail(Map<Object, Object> fields) throws MessagingException {
+        Object type = fields.get(TYPE_FIELD);
+        if (!TYPE_VERIFICATION.equals(type)) {
+            throw new IllegalArgumentException("unknown mail type: " + type);
+        }
+        // 언어 필드가 없는 메시지(이전 버전에서 등록)는 기본 언어로 보낸다
+        Object locale = fields.get(LOCALE_FIELD);
+        return emailService.createVerificationMail((String) fields.get(TO_FIELD), (String) fields.get(CODE_FIELD),
+                locale == null ? null : Locale.forLanguageTag((String) locale));
+    }
+
+    /**
+     * n 번째 시도 후 재시도까지 기다릴 시간: retry-backoff * 2^(n-1), 최대 max-retry-backoff
+     */
+    Duration backoff(long deliveries) {
+        long shift = Math.min(Math.max(0, deliveries - 1), 20);
+        Duration backoff = properties.getRetryBackoff().multipliedBy(1L << shift);
+        return backoff.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : backoff;
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+            if (cause.getMessage() == null || !cause.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, ?> mails, Exception e) {
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        mails.keySet().forEach(mail -> failed.put(mail, e));
+        return failed;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("email.send")
+                .description("메일 아웃박스 등록부터 SMTP 발송 완료까지 걸린 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
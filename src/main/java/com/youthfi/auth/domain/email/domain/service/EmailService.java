@@ -1,16 +1,28 @@
 package com.youthfi.auth.domain.email.domain.service;
 
+import java.io.UnsupportedEncodingException;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import com.youthfi.auth.domain.email.domain.template.MailTemplateEngine;
+import com.youthfi.auth.domain.email.domain.template.MailTemplateType;
+import com.youthfi.auth.domain.email.domain.template.RenderedMail;
+import com.youthfi.auth.global.exception.RateLimitExceededException;
+import com.youthfi.auth.global.ratelimit.RateLimitResult;
+import com.youthfi.auth.global.ratelimit.RateLimitRule;
+import com.youthfi.auth.global.ratelimit.RedisRateLimiter;
 import com.youthfi.auth.global.security.TokenProvider;
+import static com.youthfi.auth.global.exception.code.status.EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE;
+import static com.youthfi.auth.global.exception.code.status.EmailErrorStatus.EMAIL_DAILY_LIMIT_EXCEEDED;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -23,9 +35,11 @@ import lombok.extern.slf4j.Slf4j;
 public class EmailService {
 
     private final JavaMailSender mailSender;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailOutboxService emailOutboxService;
+    private final RedisRateLimiter redisRateLimiter;
     private final TokenProvider tokenProvider;
     private final EmailVerificationService emailVerificationService;
+    private final MailTemplateEngine mailTemplateEngine;
 
     @Value("${email.from}")
     private String fromEmail;
@@ -40,54 +54,29 @@ public class EmailService {
     private static final int MAX_DAILY_ATTEMPTS = 5;
     private static final long COOLDOWN_SECONDS = 60;
 
+    private static final String VERIFICATION_CODE_TTL_MINUTES =
+            String.valueOf(EmailVerificationService.VERIFICATION_CODE_TTL_SECONDS / 60);
+
 
     /**
      * 회원가입용 이메일 인증 코드 발송
+     * 쿨다운과 일일 발송 횟수는 Redis 스크립트 1회로 확인과 동시에 소진한다.
      * @param email 인증할 이메일 주소
+     * @return 오늘 남은 발송 횟수 (응답 헤더용)
      */
-    public void sendVerificationCode(String email) {
-        // 쿨다운 확인
-        if (isInCooldown(email)) {
-            log.warn("이메일 발송 쿨다운 중: {}", email);
-            throw new RuntimeException("이메일 발송 쿨다운 중입니다. 잠시 후 다시 시도해주세요.");
-        }
-        
-        // 일일 발송 시도 횟수 확인
-        if (isDailyLimitExceeded(email)) {
-            log.warn("일일 이메일 발송 시도 횟수 초과: {}", email);
-            throw new RuntimeException("일일 이메일 발송 횟수를 초과했습니다.");
-        }
+    public RateLimitResult sendVerificationCode(String email) {
+        RateLimitResult rateLimit = consumeSendQuota(email);
 
-        // 6자리 인증 코드 생성 및 저장
+        // 6자리 인증 코드 생성 후 코드 저장 + 발송 메시지 등록 (원자적). 발송은 EmailOutboxWorker 가 처리
         String verificationCode = emailVerificationService.generateVerificationCode();
-        emailVerificationService.saveVerificationCode(email, verificationCode);
-
-        String subject = "[YouthFi] 회원가입 이메일 인증";
-        String html = ""
-                + "<div style=\"font-family:Arial,sans-serif;color:#333;padding:20px;max-width:600px;margin:auto;\">"
-                + "  <div style=\"text-align:center;margin-bottom:20px;\">"
-                + "    <h1 style=\"margin:0;font-size:24px;color:#0064FF;\">YouthFi</h1>"
-                + "  </div>"
-                + "  <p style=\"font-size:16px;\">안녕하세요!</p>"
-                + "  <p style=\"font-size:16px;\">회원가입 인증을 위해 아래 인증 코드를 입력해주세요.</p>"
-                + "  <div style=\"background:#f5f5f5;padding:20px;text-align:center;margin:20px 0;border-radius:8px;\">"
-                + "    <div style=\"font-size:32px;font-weight:bold;color:#0064FF;letter-spacing:4px;margin:10px 0;\">"
-                + verificationCode
-                + "    </div>"
-                + "  </div>"
-                + "  <p style=\"font-size:14px;color:#888;\">이 인증 코드는 5분 후 만료됩니다.</p>"
-                + "  <p style=\"font-size:14px;\">요청하지 않으셨다면 고객지원으로 문의해주세요.</p>"
-                + "  <hr style=\"border:none;border-top:1px solid #eee;margin:30px 0;\"/>"
-                + "  <div style=\"font-size:12px;color:#aaa;text-align:center;\">YouthFi Inc, Seoul, Korea</div>"
-                + "</div>";
-
-        sendHtmlMail(email, subject, html);
-        
-        // 쿨다운 설정
-        setCooldown(email, COOLDOWN_SECONDS);
-        
-        // 발송 시도 횟수 증가
-        incrementAttemptCount(email);
+        try {
+            emailOutboxService.enqueueVerification(email, verificationCode, LocaleContextHolder.getLocale());
+            log.info("이메일 발송 요청: {}", email);
+        } catch (Exception ex) {
+            log.error("이메일 발송 요청 실패 to={}: {}", email, ex.getMessage(), ex);
+            throw new RuntimeException("이메일 전송에 실패했습니다.", ex);
+        }
+        return rateLimit;
     }
 
     /**
@@ -131,86 +120,54 @@ public class EmailService {
         return tokenProvider.getEmailFromVerificationToken(token).orElse(null);
     }
 
-    // 공통 HTML 메일 전송
-    private void sendHtmlMail(String to, String subject, String htmlContent) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
-            helper.setFrom(fromEmail, "YouthFi");
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-            log.info("이메일 전송 성공: {}", to);
-        } catch (MessagingException ex) {
-            log.error("HTML 메일 전송 실패 to={}: {}", to, ex.getMessage(), ex);
-            throw new RuntimeException("이메일 전송에 실패했습니다.", ex);
-        } catch (Exception ex) {
-            log.error("HTML 메일 전송 실패 to={}: {}", to, ex.getMessage(), ex);
-            throw new RuntimeException("이메일 전송에 실패했습니다.", ex);
-        }
-    }
-
-    // Rate Limiting 관련 메서드들
-    private boolean isInCooldown(String email) {
-        try {
-            String key = COOLDOWN_PREFIX + email;
-            String cooldown = redisTemplate.opsForValue().get(key);
-            return cooldown != null;
-        } catch (Exception e) {
-            log.warn("이메일 쿨다운 확인 실패: {}", e.getMessage());
-            return false;
-        }
+    /**
+     * 회원가입 인증 메일 생성 (EmailOutboxWorker 가 발송 시점에 호출)
+     * @param to 수신 이메일
+     * @param verificationCode 인증 코드
+     * @param locale 요청 당시 언어 (null 이면 기본 언어)
+     */
+    public MimeMessage createVerificationMail(String to, String verificationCode, Locale locale) throws MessagingException {
+        RenderedMail mail = mailTemplateEngine.render(MailTemplateType.SIGNUP_CODE, locale, verificationCode, VERIFICATION_CODE_TTL_MINUTES);
+        return createHtmlMail(to, mail.subject(), mail.html());
     }
 
-    private void setCooldown(String email, long cooldownSeconds) {
+    // 공통 HTML 메일 생성
+    private MimeMessage createHtmlMail(String to, String subject, String htmlContent) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
         try {
-            String key = COOLDOWN_PREFIX + email;
-            redisTemplate.opsForValue().set(key, "true", Duration.ofSeconds(cooldownSeconds));
-            log.info("이메일 쿨다운 설정: {}, {}초", email, cooldownSeconds);
-        } catch (Exception e) {
-            log.error("이메일 쿨다운 설정 실패: {}", e.getMessage());
+            helper.setFrom(fromEmail, "YouthFi");
+        } catch (UnsupportedEncodingException ex) {
+            helper.setFrom(fromEmail);
         }
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+        return message;
     }
 
-    private int getTodayAttemptCount(String email) {
+    // 쿨다운(1회/60초) -> 일일 횟수 순으로 확인. Redis 장애 시에는 발송을 막지 않는다
+    private RateLimitResult consumeSendQuota(String email) {
+        RateLimitResult rateLimit;
         try {
             String today = LocalDate.now().format(DATE_FORMATTER);
-            String key = ATTEMPT_PREFIX + email + ":" + today;
-            String countStr = redisTemplate.opsForValue().get(key);
-            return countStr != null ? Integer.parseInt(countStr) : 0;
+            rateLimit = redisRateLimiter.tryConsume(
+                    RateLimitRule.of(COOLDOWN_PREFIX + email, 1, Duration.ofSeconds(COOLDOWN_SECONDS)),
+                    RateLimitRule.quota(ATTEMPT_PREFIX + email + ":" + today, MAX_DAILY_ATTEMPTS, untilMidnight()));
         } catch (Exception e) {
-            log.warn("이메일 발송 시도 횟수 확인 실패: {}", e.getMessage());
-            return 0;
+            log.warn("이메일 발송 한도 확인 실패: {}", e.getMessage());
+            return RateLimitResult.UNKNOWN;
         }
-    }
-
-    private void incrementAttemptCount(String email) {
-        try {
-            String today = LocalDate.now().format(DATE_FORMATTER);
-            String key = ATTEMPT_PREFIX + email + ":" + today;
-            
-            Long count = redisTemplate.opsForValue().increment(key);
-            if (count == 1) {
-                long secondsUntilMidnight = getSecondsUntilMidnight();
-                redisTemplate.expire(key, Duration.ofSeconds(secondsUntilMidnight));
-            }
-            
-            log.info("이메일 발송 시도 횟수 증가: {}, {}회", email, count);
-        } catch (Exception e) {
-            log.error("이메일 발송 시도 횟수 증가 실패: {}", e.getMessage());
+        if (!rateLimit.allowed()) {
+            boolean cooldown = rateLimit.rejectedRule() == 0;
+            log.warn("{}: {}", cooldown ? "이메일 발송 쿨다운 중" : "일일 이메일 발송 시도 횟수 초과", email);
+            throw new RateLimitExceededException(cooldown ? EMAIL_COOLDOWN_ACTIVE : EMAIL_DAILY_LIMIT_EXCEEDED, rateLimit);
         }
+        return rateLimit;
     }
 
-    private boolean isDailyLimitExceeded(String email) {
-        return getTodayAttemptCount(email) >= MAX_DAILY_ATTEMPTS;
-    }
-
-    private long getSecondsUntilMidnight() {
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        return java.time.Duration.between(
-                java.time.LocalDateTime.now(),
-                tomorrow.atStartOfDay()
-        ).getSeconds();
+    private Duration untilMidnight() {
+        LocalDateTime now = LocalDateTime.now();
+        return Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
     }
 }
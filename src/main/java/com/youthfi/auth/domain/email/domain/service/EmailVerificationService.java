@@ -20,7 +20,7 @@ public class EmailVerificationService {
     private final static String VERIFICATION_ATTEMPT_PREFIX = "EMAIL_VERIFICATION_ATTEMPT:";
     
     // 인증 코드 TTL (5분)
-    private static final long VERIFICATION_CODE_TTL_SECONDS = 300;
+    static final long VERIFICATION_CODE_TTL_SECONDS = 300;
     // 최대 시도 횟수 (5회)
     private static final int MAX_ATTEMPT_COUNT = 5;
     // 시도 횟수 TTL (10분)
@@ -77,7 +77,7 @@ public class EmailVerificationService {
      */
     public void saveVerificationCode(String email, String code) {
         try {
-            String key = VERIFICATION_CODE_PREFIX + email;
+            String key = codeKeyOf(email);
             redisTemplate.opsForValue().set(key, code, Duration.ofSeconds(VERIFICATION_CODE_TTL_SECONDS));
             log.info("이메일 인증 코드 저장: {}, TTL: {}초", email, VERIFICATION_CODE_TTL_SECONDS);
         } catch (Exception e) {
@@ -86,6 +86,13 @@ public class EmailVerificationService {
         }
     }
 
+    /**
+     * 인증 코드 키 (발송 아웃박스 스크립트와 공유)
+     */
+    static String codeKeyOf(String email) {
+        return VERIFICATION_CODE_PREFIX + email;
+    }
+
     /**
      * 이메일 인증 코드 검증
      * @param email 이메일 주소
@@ -0,0 +1,106 @@
+package com.youthfi.auth.domain.email.domain.template;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 시 한 번 파싱해 둔 메일 템플릿
+ * 원문을 {{변수}} 기준으로 고정 문자열 조각과 변수 위치(인덱스)로 나눠 두고, 렌더링은 버퍼에 순서대로 이어 쓰기만 한다.
+ * 파일 첫 줄은 "Subject: " 로 시작하는 제목이고, 나머지가 HTML 본문이다.
+ */
+final class MailTemplate {
+
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final Segments subject;
+    private final Segments body;
+
+    private MailTemplate(Segments subject, Segments body) {
+        this.subject = subject;
+        this.body = body;
+    }
+
+    static MailTemplate compile(MailTemplateType type, String source, String resourceName) {
+        int lineEnd = source.indexOf('\n');
+        if (!source.startsWith(SUBJECT_PREFIX) || lineEnd < 0) {
+            throw new IllegalStateException("메일 템플릿 첫 줄에 제목(Subject:)이 없습니다: " + resourceName);
+        }
+        String subjectLine = source.substring(SUBJECT_PREFIX.length(), lineEnd).strip();
+        return new MailTemplate(
+                Segments.parse(type, subjectLine, resourceName),
+                Segments.parse(type, source.substring(lineEnd + 1), resourceName));
+    }
+
+    void renderSubject(StringBuilder out, String[] values) {
+        subject.render(out, values, false);
+    }
+
+    void renderBody(StringBuilder out, String[] values) {
+        body.render(out, values, true);
+    }
+
+    int bodyLength() {
+        return body.literalLength;
+    }
+
+    /**
+     * literals[i] 다음에 values[slots[i]] 가 오고, 마지막에 literals[slots.length] 가 붙는다.
+     */
+    private record Segments(String[] literals, int[] slots, int literalLength) {
+
+        static Segments parse(MailTemplateType type, String source, String resourceName) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int position = 0;
+            int open;
+            while ((open = source.indexOf(OPEN, position)) >= 0) {
+                int close = source.indexOf(CLOSE, open + OPEN.length());
+                if (close < 0) {
+                    throw new IllegalStateException("닫히지 않은 템플릿 변수가 있습니다: " + resourceName);
+                }
+                String name = source.substring(open + OPEN.length(), close).strip();
+                int slot = type.getVariables().indexOf(name);
+                if (slot < 0) {
+                    throw new IllegalStateException("알 수 없는 템플릿 변수 '" + name + "': " + resourceName);
+                }
+                literals.add(source.substring(position, open));
+                slots.add(slot);
+                position = close + CLOSE.length();
+            }
+            literals.add(source.substring(position));
+            return new Segments(
+                    literals.toArray(String[]::new),
+                    slots.stream().mapToInt(Integer::intValue).toArray(),
+                    literals.stream().mapToInt(String::length).sum());
+        }
+
+        void render(StringBuilder out, String[] values, boolean escapeHtml) {
+            for (int i = 0; i < slots.length; i++) {
+                out.append(literals[i]);
+                String value = values[slots[i]];
+                if (escapeHtml) {
+                    appendEscaped(out, value);
+                } else {
+                    out.append(value);
+                }
+            }
+            out.append(literals[slots.length]);
+        }
+
+        private static void appendEscaped(StringBuilder out, String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '&' -> out.append("&amp;");
+                    case '"' -> out.append("&quot;");
+                    case '\'' -> out.append("&#39;");
+                    default -> out.append(c);
+                }
+            }
+        }
+    }
+}
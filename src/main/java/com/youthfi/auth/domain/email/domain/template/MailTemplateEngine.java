@@ -0,0 +1,109 @@
+package com.youthfi.auth.domain.email.domain.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import com.youthfi.auth.global.config.properties.EmailTemplateProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 템플릿 렌더러
+ * 모든 메일 종류 x 언어 템플릿을 기동 시 한 번 읽어 파싱해 두고(빠진 기본 언어 템플릿이나 잘못된 변수는 기동 실패),
+ * 렌더링은 스레드별로 재사용하는 버퍼에 이어 쓴 뒤 문자열만 만든다.
+ * 언어는 Locale 의 language 로 고르고, 해당 언어 템플릿이 없으면 기본 언어를 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailTemplateEngine {
+
+    // 한 번 크게 늘어난 버퍼를 스레드에 계속 잡아두지 않도록 하는 상한
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final EmailTemplateProperties properties;
+
+    private final Map<MailTemplateType, Map<String, MailTemplate>> templates = new EnumMap<>(MailTemplateType.class);
+    private ThreadLocal<StringBuilder> buffers;
+
+    @PostConstruct
+    void load() {
+        int maxLength = 0;
+        for (MailTemplateType type : MailTemplateType.values()) {
+            Map<String, MailTemplate> byLanguage = new HashMap<>();
+            for (String language : properties.getLanguages()) {
+                MailTemplate template = read(type, language);
+                if (template != null) {
+                    byLanguage.put(language, template);
+                    maxLength = Math.max(maxLength, template.bodyLength());
+                }
+            }
+            if (!byLanguage.containsKey(properties.getDefaultLanguage())) {
+                throw new IllegalStateException("기본 언어 메일 템플릿이 없습니다: "
+                        + resourceName(type, properties.getDefaultLanguage()));
+            }
+            templates.put(type, byLanguage);
+        }
+        // 변수 값이 붙을 여유를 두고 가장 긴 템플릿 기준으로 버퍼를 잡는다
+        int initialCapacity = maxLength + 256;
+        this.buffers = ThreadLocal.withInitial(() -> new StringBuilder(initialCapacity));
+        log.info("[MailTemplateEngine] {} mail templates loaded, languages={}", templates.size(), properties.getLanguages());
+    }
+
+    /**
+     * @param locale 수신자 언어 (null 이면 기본 언어)
+     * @param values type 의 variables 순서대로 넘긴 변수 값
+     */
+    public RenderedMail render(MailTemplateType type, Locale locale, String... values) {
+        if (values.length != type.getVariables().size()) {
+            throw new IllegalArgumentException(type + " 메일 변수는 " + type.getVariables() + " 입니다.");
+        }
+        MailTemplate template = resolve(type, locale);
+        StringBuilder buffer = buffers.get();
+        try {
+            template.renderSubject(buffer, values);
+            String subject = buffer.toString();
+            buffer.setLength(0);
+            template.renderBody(buffer, values);
+            return new RenderedMail(subject, buffer.toString());
+        } finally {
+            buffer.setLength(0);
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                buffers.remove();
+            }
+        }
+    }
+
+    private MailTemplate resolve(MailTemplateType type, Locale locale) {
+        Map<String, MailTemplate> byLanguage = templates.get(type);
+        MailTemplate template = locale == null ? null : byLanguage.get(locale.getLanguage());
+        return template != null ? template : byLanguage.get(properties.getDefaultLanguage());
+    }
+
+    private MailTemplate read(MailTemplateType type, String language) {
+        String name = resourceName(type, language);
+        ClassPathResource resource = new ClassPathResource(name);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return MailTemplate.compile(type, new String(in.readAllBytes(), StandardCharsets.UTF_8), name);
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿을 읽을 수 없습니다: " + name, e);
+        }
+    }
+
+    private String resourceName(MailTemplateType type, String language) {
+        return properties.getLocation() + type.getTemplateName() + "_" + language + ".html";
+    }
+}
@@ -0,0 +1,25 @@
+package com.youthfi.auth.domain.email.domain.template;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 메일 종류와 템플릿에서 쓸 수 있는 변수 목록
+ * 렌더링 시 값은 variables 순서대로 넘긴다.
+ */
+@Getter
+public enum MailTemplateType {
+
+    SIGNUP_CODE("signup-code", "code", "ttlMinutes"),
+    PASSWORD_RESET("password-reset", "code", "ttlMinutes"),
+    LOGIN_ALERT("login-alert", "userId", "loginAt", "device");
+
+    private final String templateName;
+    private final List<String> variables;
+
+    MailTemplateType(String templateName, String... variables) {
+        this.templateName = templateName;
+        this.variables = List.of(variables);
+    }
+}
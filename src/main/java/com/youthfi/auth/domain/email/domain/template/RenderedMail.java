@@ -0,0 +1,4 @@
+package com.youthfi.auth.domain.email.domain.template;
+
+public record RenderedMail(String subject, String html) {
+}
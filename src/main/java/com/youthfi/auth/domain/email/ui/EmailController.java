@@ -1,8 +1,10 @@
 package com.youthfi.auth.domain.email.ui;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.youthfi.auth.domain.email.application.dto.request.SendVerificationRequest;
@@ -13,6 +15,7 @@ import com.youthfi.auth.domain.email.application.usecase.VerifyEmailUseCase;
 import com.youthfi.auth.global.common.BaseResponse;
 import com.youthfi.auth.global.swagger.EmailApi;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -25,9 +28,10 @@ public class EmailController implements EmailApi {
     private final VerifyEmailUseCase verifyEmailUseCase;
 
     @PostMapping("/verification/send")
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @Override
-    public BaseResponse<Void> sendVerification(@Valid @RequestBody SendVerificationRequest request) {
-        sendEmailVerificationUseCase.sendVerification(request);
+    public BaseResponse<Void> sendVerification(@Valid @RequestBody SendVerificationRequest request, HttpServletResponse response) {
+        sendEmailVerificationUseCase.sendVerification(request).writeTo(response);
         return BaseResponse.onSuccess();
     }
 
@@ -0,0 +1,197 @@
+package com.youthfi.auth.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파드 로컬 Caffeine(L1) + Redis 공유 캐시(L2) 2단계 캐시
+ * L1 미스 시 L2, L2 미스 시 원본을 조회한다. 무효화는 양쪽을 지우고 pub/sub 으로 다른 파드의 L1 에도 전파한다.
+ * Redis 장애 시에는 L2 를 건너뛰고 원본을 조회한다. null 값은 캐시하지 않으며, 키는 문자열(userId 등)만 사용한다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache implements MessageListener {
+
+    static final String KEY_PREFIX = "CACHE:";
+    public static final String EVICT_CHANNEL = "CACHE_EVICT_CHANNEL";
+    private static final String CLEAR_ALL = "*";
+
+    private final String name;
+    private final Cache<Object, Object> local;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean remote; // false 면 L1 만 사용 (무효화 전파는 항상)
+    private final ObjectMapper objectMapper;
+    private final Class<?> valueType;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public TwoLevelCache(String name, Cache<Object, Object> local, RedisTemplate<String, String> redisTemplate,
+                         boolean remote, ObjectMapper objectMapper, Class<?> valueType, Duration redisTtl, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.remote = remote;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.redisTtl = redisTtl;
+        // 계층별 적중률: cache_gets_total{cache, tier, result}
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "local");
+        this.redisHits = Counter.builder("cache.gets").tags("cache", name, "tier", "redis", "result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("cache.gets").tags("cache", name, "tier", "redis", "result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = readRemote(key);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(key, k -> {
+            Object remote = readRemote(k);
+            if (remote != null) {
+                return remote;
+            }
+            try {
+                T loaded = valueLoader.call();
+                writeRemote(k, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key, value);
+        writeRemote(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        try {
+            if (remote) {
+                redisTemplate.delete(redisKey(key));
+            }
+            redisTemplate.convertAndSend(EVICT_CHANNEL, name + ":" + key);
+        } catch (Exception e) {
+            log.warn("[TwoLevelCache] {} evict not propagated, other pods keep it up to local ttl: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            if (remote) {
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + name + ":*").count(1000).build();
+                try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                    while (cursor.hasNext()) {
+                        redisTemplate.delete(cursor.next());
+                    }
+                }
+            }
+            redisTemplate.convertAndSend(EVICT_CHANNEL, name + ":" + CLEAR_ALL);
+        } catch (Exception e) {
+            log.warn("[TwoLevelCache] {} clear not propagated: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 파드(또는 자신)가 발행한 무효화 메시지: 이 파드의 L1 만 지운다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String prefix = name + ":";
+        if (!body.startsWith(prefix)) {
+            return;
+        }
+        String key = body.substring(prefix.length());
+        if (CLEAR_ALL.equals(key)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object readRemote(Object key) {
+        if (!remote) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key));
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, valueType);
+        } catch (Exception e) {
+            log.debug("[TwoLevelCache] {} redis read skipped: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(Object key, Object value) {
+        if (!remote || value == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(value), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("[TwoLevelCache] {} value not serializable: {}", name, e.getMessage());
+        } catch (Exception e) {
+            log.debug("[TwoLevelCache] {} redis write skipped: {}", name, e.getMessage());
+        }
+    }
+
+    private String redisKey(Object key) {
+        return KEY_PREFIX + name + ":" + key;
+    }
+}
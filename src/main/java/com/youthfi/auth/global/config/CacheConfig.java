@@ -0,0 +1,56 @@
+package com.youthfi.auth.global.config;
+
+import java.util.List;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youthfi.auth.domain.auth.application.dto.response.ProfileResponse;
+import com.youthfi.auth.domain.auth.domain.service.UserService;
+import com.youthfi.auth.global.cache.TwoLevelCache;
+import com.youthfi.auth.global.config.properties.UserCacheProperties;
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 사용자 프로필 캐시 (L1 Caffeine + 선택적 L2 Redis)
+     * 트랜잭션 안에서 발생한 무효화는 커밋 후에 반영해, 커밋 전 값이 다시 캐시되지 않게 한다.
+     */
+    @Bean
+    public CacheManager cacheManager(UserCacheProperties properties, RedisTemplate<String, String> redisTemplate,
+                                     ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                     RedisSubscriptionManager redisSubscriptionManager) {
+        TwoLevelCache profileCache = new TwoLevelCache(
+                UserService.PROFILE_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getLocalMaxSize())
+                        .expireAfterWrite(properties.getLocalTtl())
+                        .recordStats()
+                        .build(),
+                redisTemplate,
+                properties.getRedis().isEnabled(),
+                objectMapper,
+                ProfileResponse.class,
+                properties.getRedis().getTtl(),
+                meterRegistry);
+        redisSubscriptionManager.addListener(profileCache, new ChannelTopic(TwoLevelCache.EVICT_CHANNEL));
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(profileCache));
+        cacheManager.afterPropertiesSet();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -40,6 +40,10 @@ public class EmailConfig {
         props.put("mail.smtp.auth", "true");
         props.put("mail.smtp.starttls.enable", "true");
         props.put("mail.smtp.ssl.trust", host);
+        // 발송 스레드가 응답 없는 SMTP 서버에 묶이지 않도록 제한 (ms)
+        props.put("mail.smtp.connectiontimeout", "5000");
+        props.put("mail.smtp.timeout", "10000");
+        props.put("mail.smtp.writetimeout", "10000");
         props.put("mail.debug", "false");
 
         return mailSender;
@@ -1,8 +1,12 @@
 package com.youthfi.auth.global.config;
 
 import java.util.Arrays;
+import java.util.Map;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,6 +16,8 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -19,15 +25,28 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
+import com.youthfi.auth.domain.auth.domain.service.TokenBlacklistService;
 import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
 import com.youthfi.auth.global.config.properties.CorsProperties;
 import com.youthfi.auth.global.config.properties.OAuthClientProperties;
 import com.youthfi.auth.global.config.properties.OAuthProviderProperties;
+import com.youthfi.auth.global.config.properties.PasswordHashingProperties;
+import com.youthfi.auth.global.config.properties.RateLimitProperties;
+import com.youthfi.auth.global.config.properties.VerifyProperties;
+import com.youthfi.auth.global.ratelimit.LocalRateLimiter;
+import com.youthfi.auth.global.ratelimit.RateLimitFilter;
+import com.youthfi.auth.global.security.BcryptCalibration;
+import com.youthfi.auth.global.security.BoundedPasswordEncoder;
 import com.youthfi.auth.global.security.ExcludeAuthPathProperties;
 import com.youthfi.auth.global.security.JwtAuthenticationFilter;
 import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifyFastPathFilter;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,6 +63,8 @@ public class SecurityConfig {
     private final TokenWhitelistService tokenWhitelistService;
     private final CorsProperties corsProperties;
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -71,6 +92,7 @@ public class SecurityConfig {
                 ).permitAll()
                 .requestMatchers(
                         "/actuator/**",
+                        "/.well-known/**",
                         "/favicon.ico"
                 ).permitAll()
                 .requestMatchers(HttpMethod.POST, "/users/token").authenticated() // 토큰 재발급
@@ -121,9 +143,51 @@ public class SecurityConfig {
         return new JwtAuthenticationFilter(tokenProvider, excludeAuthPathProperties, refreshTokenService, tokenWhitelistService);
     }
 
+    /**
+     * /api/auth/verify 경량 검증 필터 (Spring Security 필터 체인보다 먼저 실행)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.verify", name = "fast-path", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<VerifyFastPathFilter> verifyFastPathFilter(TokenBlacklistService tokenBlacklistService,
+                                                                             UserStatusService userStatusService,
+                                                                             VerifyProperties verifyProperties) {
+        VerifyFastPathFilter filter = new VerifyFastPathFilter(tokenProvider, tokenWhitelistService, tokenBlacklistService,
+                userStatusService, verifyProperties);
+        FilterRegistrationBean<VerifyFastPathFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(verifyProperties.getPath());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    /**
+     * 로그인/회원가입/인증 코드 확인 요청 한도 필터 (Security 체인과 컨트롤러의 BCrypt 보다 먼저 실행)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties rateLimitProperties,
+                                                                   LocalRateLimiter localRateLimiter,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        RateLimitFilter filter = new RateLimitFilter(rateLimitProperties, localRateLimiter, objectMapper, meterRegistry);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry) {
+        // 새 해시는 {bcrypt} 접두사 + 측정한 cost 로 만들고, 접두사 없는 기존 해시도 그대로 검증한다.
+        // 기존/낮은 cost 해시는 로그인 성공 시 upgradeEncoding 으로 판별해 다시 해시한다.
+        int strength = BcryptCalibration.strength(passwordHashingProperties);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        Gauge.builder("auth.password.hash.strength", () -> strength)
+                .description("현재 사용하는 BCrypt cost")
+                .register(meterRegistry);
+
+        // 해시는 전용 풀에서 실행해 요청 스레드(Tomcat) CPU 를 뺏지 않게 한다
+        return new BoundedPasswordEncoder(delegating, passwordHashingProperties, meterRegistry);
     }
 }
 
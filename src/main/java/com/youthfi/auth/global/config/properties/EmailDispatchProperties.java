@@ -0,0 +1,23 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "email.dispatch")
+public class EmailDispatchProperties {
+    private int workers = 2;                                    // 파드별 발송 스레드 수 (= 동시 SMTP 연결 수)
+    private int batchSize = 20;                                 // 스트림에서 한 번에 읽어 SMTP 연결 1개로 연속 발송할 메일 수
+    private Duration pollTimeout = Duration.ofSeconds(2);       // 스트림 대기(BLOCK) 시간
+    private int maxAttempts = 5;                                // 발송 시도 횟수, 넘으면 dead-letter 스트림으로 이동
+    private Duration retryBackoff = Duration.ofSeconds(10);     // 재시도 대기 시간 (시도마다 2배)
+    private Duration maxRetryBackoff = Duration.ofMinutes(2);
+    private Duration reclaimInterval = Duration.ofSeconds(5);   // 실패/죽은 파드의 미처리 메일을 확인하는 주기
+    private long maxLength = 100_000;                           // 스트림 최대 길이 (근사, 초과분은 오래된 것부터 삭제)
+    private Duration shutdownTimeout = Duration.ofSeconds(10);  // 종료 시 진행 중인 발송을 기다리는 시간
+}
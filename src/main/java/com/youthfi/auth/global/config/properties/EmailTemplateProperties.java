@@ -0,0 +1,17 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "email.template")
+public class EmailTemplateProperties {
+    private String location = "mail/templates/";               // 템플릿 classpath 경로 ({이름}_{언어}.html)
+    private String defaultLanguage = "ko";                      // 요청 언어의 템플릿이 없을 때 사용 (모든 메일 종류에 필수)
+    private List<String> languages = List.of("ko", "en");       // 기동 시 읽어 둘 언어 목록
+}
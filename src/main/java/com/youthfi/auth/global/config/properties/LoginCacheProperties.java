@@ -0,0 +1,17 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.login-cache")
+public class LoginCacheProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofSeconds(5); // 같은 자격 증명 재시도를 BCrypt 없이 통과시키는 시간
+    private long maxSize = 10_000;                // 파드별 최대 엔트리 수
+}
@@ -0,0 +1,21 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+    private int poolSize = 0;                         // 해시 전용 스레드 수 (0 이면 CPU 코어 수)
+    private int queueCapacity = 64;                   // 대기 가능한 해시 작업 수, 넘으면 바로 429
+    private Duration timeout = Duration.ofSeconds(3); // 요청 스레드가 해시 결과를 기다리는 최대 시간, 넘으면 429
+    private int strength = 0;                         // BCrypt cost 고정값 (0 이면 기동 시 측정해 target-hash-time 에 맞춤)
+    private Duration targetHashTime = Duration.ofMillis(100); // 해시 1회 목표 시간
+    private int minStrength = 10;                     // 측정 결과와 관계없이 보장할 최소 cost
+    private int maxStrength = 14;
+}
@@ -0,0 +1,43 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Duration syncInterval = Duration.ofSeconds(1);  // 파드별 사용량을 Redis 에 합산하는 주기 (= 파드 간 한도 공유 지연)
+    private String clientIpHeader;                          // 프록시가 붙이는 클라이언트 IP 헤더 (마지막 값 사용), 없으면 remoteAddr
+    private int maxBodyBytes = 8192;                        // key-field 를 찾을 최대 요청 본문 크기
+    private long maxKeys = 100_000;                         // 파드별로 추적할 최대 버킷 수
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private String name;
+        private String method = "POST";
+        private String path;                                // PathPattern (예: /api/auth/login/{provider})
+        private String keyField;                            // per-key 한도에 쓸 JSON 본문 필드 (예: userId)
+        private Limit perIp;
+        private Limit perKeyIp;                             // (값, IP) 별 한도
+        private Limit perKey;                               // 값 별 한도 (IP 무관, 여러 IP 로 나눠 보내는 대입 방지). 다른 IP 가 계정을 잠그지 못하게 per-key-ip 보다 크게
+        private Limit global;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private long limit;                                 // window 동안 허용 횟수 (전체 파드 합산)
+        private Duration window = Duration.ofMinutes(1);
+        private long burst;                                 // 파드 로컬 버킷 크기, 0 이면 limit
+    }
+}
@@ -0,0 +1,17 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.session")
+public class SessionProperties {
+    private int maxPerUser = 5;          // 사용자당 최대 로그인 세션(기기) 수, 넘으면 가장 오래 사용하지 않은 세션부터 제거
+    private int deviceMaxLength = 200;   // 세션 목록에 보여줄 기기 정보(User-Agent) 최대 길이
+    private Duration rotationGracePeriod = Duration.ofSeconds(10); // 교체 직후 같은 리프레시 토큰 재요청(탭 2개, 재시도)을 재사용으로 보지 않고 다시 교체해 주는 시간
+}
@@ -0,0 +1,32 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token-cache")
+public class TokenCacheProperties {
+    private boolean legacyKeyRead = true; // 토큰 원문 키(이전 형식)도 함께 조회하는 마이그레이션 모드
+    private Whitelist whitelist = new Whitelist();
+    private Blacklist blacklist = new Blacklist();
+
+    @Getter
+    @Setter
+    public static class Whitelist {
+        private Duration ttl = Duration.ofSeconds(30); // Redis TTL, 로컬 TTL 상한
+        private long localMaxSize = 100_000;           // 파드별 로컬 캐시 최대 엔트리 수
+    }
+
+    @Getter
+    @Setter
+    public static class Blacklist {
+        private long expectedInsertions = 100_000;      // 블룸 필터 예상 원소 수
+        private double falsePositiveRate = 0.001;       // 블룸 필터 오탐률 (오탐 시에만 Redis 조회)
+        private Duration rebuildInterval = Duration.ofMinutes(5); // Redis 전체 재동기화 주기
+    }
+}
@@ -0,0 +1,24 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.user-cache")
+public class UserCacheProperties {
+    private Duration localTtl = Duration.ofMinutes(1); // 파드 로컬(L1) TTL, 다른 파드 변경이 전파되지 않았을 때의 최대 지연
+    private long localMaxSize = 10_000;                // 파드별 최대 엔트리 수
+    private Redis redis = new Redis();
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private boolean enabled = false;               // Redis 공유 캐시(L2) 사용 여부
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,17 @@
+package com.youthfi.auth.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.verify")
+public class VerifyProperties {
+    private boolean fastPath = true;                        // Spring Security 체인 앞단에서 바로 응답하는 경량 검증 사용 여부
+    private String path = "/api/auth/verify";               // Nginx auth-request 가 호출하는 경로
+    private Duration revokedUsersReloadInterval = Duration.ofMinutes(5); // 탈퇴/정지 사용자 집합 재동기화 주기
+}
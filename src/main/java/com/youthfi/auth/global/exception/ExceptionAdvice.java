@@ -48,6 +48,19 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(errorCode);
     }
 
+    /*
+     * 요청 한도 초과 시 Retry-After / X-RateLimit-Remaining 헤더와 함께 응답
+     */
+    @ExceptionHandler(value = RateLimitExceededException.class)
+    public ResponseEntity<BaseResponse<String>> handleRateLimitExceeded(RateLimitExceededException e) {
+        BaseCode errorCode = e.getErrorCode();
+        log.warn("[handleRateLimitExceeded] code={} retryAfter={}", errorCode.getCode(), e.getRateLimit().retryAfter());
+        return ResponseEntity
+                .status(errorCode.getHttpStatus().value())
+                .headers(e.getRateLimit().toHeaders())
+                .body(BaseResponse.onFailure(errorCode.getCode(), errorCode.getMessage(), null));
+    }
+
     /*
      * DataIntegrityViolationException 발생 시 예외 처리
      * 데이터베이스 제약조건 위반 시 발생
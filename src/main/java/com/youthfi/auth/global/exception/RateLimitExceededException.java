@@ -0,0 +1,20 @@
+package com.youthfi.auth.global.exception;
+
+import com.youthfi.auth.global.exception.code.BaseCodeInterface;
+import com.youthfi.auth.global.ratelimit.RateLimitResult;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과. 응답에 Retry-After / X-RateLimit-Remaining 헤더를 붙인다.
+ */
+@Getter
+public class RateLimitExceededException extends RestApiException {
+
+    private final RateLimitResult rateLimit;
+
+    public RateLimitExceededException(BaseCodeInterface errorCode, RateLimitResult rateLimit) {
+        super(errorCode);
+        this.rateLimit = rateLimit;
+    }
+}
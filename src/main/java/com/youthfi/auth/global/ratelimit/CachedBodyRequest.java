@@ -0,0 +1,117 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 본문 앞부분을 미리 읽어 두고, 이후 단계에는 읽은 부분 + 나머지 스트림을 그대로 다시 제공하는 요청 래퍼
+ * max 바이트를 넘는 본문은 getBody() 가 null 이다.
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] head;
+    private final boolean complete;
+    private boolean consumed;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] head, boolean complete) {
+        super(request);
+        this.head = head;
+        this.complete = complete;
+    }
+
+    static CachedBodyRequest wrap(HttpServletRequest request, int max) throws IOException {
+        byte[] head = request.getInputStream().readNBytes(max + 1);
+        return new CachedBodyRequest(request, head, head.length <= max);
+    }
+
+    byte[] getBody() {
+        return complete ? head : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (consumed) {
+            throw new IllegalStateException("request body already read");
+        }
+        consumed = true;
+        InputStream source = complete
+                ? new ByteArrayInputStream(head)
+                : new SequenceInputStream(new ByteArrayInputStream(head), super.getInputStream());
+        return new ReplayInputStream(source);
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public int getContentLength() {
+        return complete ? head.length : super.getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return complete ? head.length : super.getContentLengthLong();
+    }
+
+    private static final class ReplayInputStream extends ServletInputStream {
+
+        private final InputStream source;
+        private boolean finished;
+
+        ReplayInputStream(InputStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = source.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = source.read(buffer, offset, length);
+            finished = n < 0;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * 본문은 메모리에 있거나(앞부분) 블로킹으로 이어 읽으므로 항상 읽을 수 있다 → 바로 알린다
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                readListener.onDataAvailable();
+                readListener.onAllDataRead();
+            } catch (Throwable t) {
+                readListener.onError(t);
+            }
+        }
+    }
+}
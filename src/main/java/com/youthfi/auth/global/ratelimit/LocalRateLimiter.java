@@ -0,0 +1,247 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.youthfi.auth.global.config.properties.RateLimitProperties;
+import com.youthfi.auth.global.config.properties.RateLimitProperties.Limit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파드 로컬 토큰 버킷 + 주기적 Redis 합산 rate limiter
+ * 요청마다 로컬 버킷만 확인하므로 네트워크 왕복이 없다.
+ * sync-interval 마다 버킷별 사용량을 Redis 윈도우 카운터에 합산하고, 전체 파드 합계가 한도를 넘은 키는
+ * 윈도우가 끝날 때까지 로컬에서 차단한다. 파드 간 한도는 최대 sync-interval 만큼 늦게 반영된다.
+ * 합산은 지난 주기에 사용된 버킷만 대상으로 한다.
+ */
+@Slf4j
+@Component
+public class LocalRateLimiter {
+
+    private static final String KEY_PREFIX = "RATE_LIMIT:";
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SYNC_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rate-limit-sync.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Ticker ticker;
+    private final Cache<String, Bucket> buckets;
+    // 지난 합산 이후 사용된 버킷 키
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LocalRateLimiter(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties) {
+        this(redisTemplate, properties, Ticker.systemTicker());
+    }
+
+    LocalRateLimiter(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties, Ticker ticker) {
+        this.redisTemplate = redisTemplate;
+        this.ticker = ticker;
+        // 가장 긴 윈도우 동안 요청이 없던 키만 버린다 (차단 상태가 윈도우 도중 사라지지 않게)
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(longestWindow(properties))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * key 버킷에서 토큰 1개 사용. 로컬 버킷이 비었거나 전체 파드 합계가 한도를 넘은 키면 거부
+     */
+    public RateLimitResult tryAcquire(String key, Limit limit) {
+        return tryAcquire(List.of(new Target(key, limit)));
+    }
+
+    /**
+     * 모든 버킷을 먼저 확인하고, 전부 남아 있을 때만 각 버킷에서 토큰 1개씩 사용
+     * 앞 버킷만 소모되고 뒤 버킷에서 거부되는 일이 없다.
+     * @return 거부면 rejectedRule 이 거부한 버킷의 인덱스 (targets 순서)
+     */
+    public RateLimitResult tryAcquire(List<Target> targets) {
+        long now = ticker.read();
+        Bucket[] acquired = new Bucket[targets.size()];
+        for (int i = 0; i < acquired.length; i++) {
+            Target target = targets.get(i);
+            acquired[i] = buckets.get(target.key(), k -> new Bucket(target.limit(), now));
+            long waitNanos = acquired[i].waitNanos(now);
+            if (waitNanos > 0) {
+                return RateLimitResult.rejected(Duration.ofNanos(waitNanos), i);
+            }
+        }
+        long remaining = Long.MAX_VALUE;
+        for (int i = 0; i < acquired.length; i++) {
+            long waitNanos = acquired[i].tryConsume(now);
+            if (waitNanos > 0) {
+                // 확인 후 다른 요청이 먼저 사용함 → 이미 사용한 토큰은 돌려준다
+                for (int j = 0; j < i; j++) {
+                    acquired[j].refund();
+                }
+                return RateLimitResult.rejected(Duration.ofNanos(waitNanos), i);
+            }
+            remaining = Math.min(remaining, acquired[i].available());
+        }
+        for (int i = 0; i < acquired.length; i++) {
+            acquired[i].unsynced.incrementAndGet();
+            dirty.add(targets.get(i).key());
+        }
+        return RateLimitResult.allowed(remaining);
+    }
+
+    /**
+     * 지난 주기에 사용된 버킷의 사용량을 Redis 에 합산하고 전체 파드 합계로 차단 여부를 갱신
+     */
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sync-interval:1s}")
+    public void reconcile() {
+        long nowMillis = System.currentTimeMillis();
+        List<Bucket> batch = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (Iterator<String> it = dirty.iterator(); it.hasNext(); ) {
+            String key = it.next();
+            // 제거 후 사용량을 읽으므로, 그 사이 사용되면 다시 dirty 에 들어가 다음 주기에 합산된다
+            it.remove();
+            Bucket bucket = buckets.getIfPresent(key);
+            if (bucket == null) {
+                continue;
+            }
+            long used = bucket.unsynced.getAndSet(0);
+            if (used == 0) {
+                continue;
+            }
+            long window = bucket.windowMillis;
+            batch.add(bucket);
+            keys.add(KEY_PREFIX + key + ":" + nowMillis / window);
+            args.add(String.valueOf(used));
+            args.add(String.valueOf(window - nowMillis % window));
+            if (batch.size() == SYNC_BATCH_SIZE) {
+                sync(batch, keys, args, nowMillis);
+                batch.clear();
+                keys.clear();
+                args.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            sync(batch, keys, args, nowMillis);
+        }
+    }
+
+    private void sync(List<Bucket> batch, List<String> keys, List<String> args, long nowMillis) {
+        List<?> counts;
+        try {
+            counts = redisTemplate.execute(SYNC_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            // Redis 장애 시에는 파드 로컬 버킷만으로 제한한다
+            log.warn("[RateLimit] reconcile failed, local limits only: {}", e.getMessage());
+            return;
+        }
+        if (counts == null) {
+            return;
+        }
+        long now = ticker.read();
+        for (int i = 0; i < batch.size() && i < counts.size(); i++) {
+            Bucket bucket = batch.get(i);
+            if (((Number) counts.get(i)).longValue() >= bucket.limit) {
+                long remainingMillis = bucket.windowMillis - nowMillis % bucket.windowMillis;
+                bucket.blockedUntil = now + TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+            }
+        }
+    }
+
+    private static Duration longestWindow(RateLimitProperties properties) {
+        Duration longest = Duration.ofMinutes(1);
+        for (RateLimitProperties.Endpoint endpoint : properties.getEndpoints()) {
+            for (Limit limit : new Limit[]{endpoint.getPerIp(), endpoint.getPerKeyIp(), endpoint.getPerKey(), endpoint.getGlobal()}) {
+                if (limit != null && limit.getWindow().compareTo(longest) > 0) {
+                    longest = limit.getWindow();
+                }
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * @param key 버킷 키 (엔드포인트, 범위, 값)
+     */
+    public record Target(String key, Limit limit) {
+    }
+
+    /**
+     * 토큰 버킷: 크기 burst, window 동안 limit 개 비율로 채워진다
+     */
+    static final class Bucket {
+
+        private final long limit;
+        private final long capacity;
+        private final long windowMillis;
+        private final double tokensPerNano;
+        private final AtomicLong unsynced = new AtomicLong();
+        private volatile long blockedUntil;
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(Limit limit, long now) {
+            this.limit = limit.getLimit();
+            this.capacity = limit.getBurst() > 0 ? limit.getBurst() : limit.getLimit();
+            this.windowMillis = Math.max(1, limit.getWindow().toMillis());
+            this.tokensPerNano = (double) limit.getLimit() / limit.getWindow().toNanos();
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        /**
+         * @return 0 이면 사용, 아니면 다음 토큰까지 남은 시간 (ns)
+         */
+        synchronized long tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        /**
+         * 사용하지 않고 확인만 한다
+         * @return 0 이면 사용 가능, 아니면 차단 해제 또는 다음 토큰까지 남은 시간 (ns)
+         */
+        synchronized long waitNanos(long now) {
+            if (blockedUntil != 0 && blockedUntil - now > 0) {
+                return blockedUntil - now;
+            }
+            double refilled = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            if (refilled >= 1) {
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - refilled) / tokensPerNano));
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized long available() {
+            return (long) tokens;
+        }
+    }
+}
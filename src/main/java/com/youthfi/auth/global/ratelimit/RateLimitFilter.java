@@ -0,0 +1,168 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youthfi.auth.global.common.BaseResponse;
+import com.youthfi.auth.global.config.properties.RateLimitProperties;
+import com.youthfi.auth.global.config.properties.RateLimitProperties.Endpoint;
+import com.youthfi.auth.global.config.properties.RateLimitProperties.Limit;
+import com.youthfi.auth.global.exception.code.BaseCode;
+import com.youthfi.auth.global.exception.code.status.GlobalErrorStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인/회원가입/인증 코드 확인 요청 한도 필터 (Spring Security 체인보다 먼저 실행)
+ * 엔드포인트마다 IP, 본문 key-field(userId 등) + IP, key-field, 전체 버킷을 모두 확인한 뒤 함께 사용하고,
+ * 하나라도 넘으면 컨트롤러(BCrypt, DB 조회)까지 가지 않고 429 + Retry-After 로 응답한다.
+ * (key, IP) 버킷이 한 곳에서의 대입을 먼저 막고, 더 큰 key 버킷이 여러 IP 로 나눠 보내는 대입을 막는다.
+ * 다른 사람이 특정 userId 로 요청을 몰아 보내도 key 버킷을 다 쓰기 전에 (key, IP) 버킷에서 걸리므로 계정이 쉽게 잠기지 않는다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final LocalRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String clientIpHeader;
+    private final int maxBodyBytes;
+    // 경로 패턴은 기동 시 한 번만 파싱
+    private final List<CompiledEndpoint> endpoints;
+
+    public RateLimitFilter(RateLimitProperties properties, LocalRateLimiter rateLimiter,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clientIpHeader = properties.getClientIpHeader();
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        PathPatternParser parser = new PathPatternParser();
+        this.endpoints = properties.getEndpoints().stream()
+                .map(endpoint -> new CompiledEndpoint(endpoint, endpoint.getMethod().toUpperCase(Locale.ROOT),
+                        parser.parse(endpoint.getPath())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return match(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        CompiledEndpoint compiled = match(request);
+        Endpoint endpoint = compiled.endpoint();
+        HttpServletRequest target = request;
+        String ip = clientIp(request);
+
+        List<String> scopes = new ArrayList<>(4);
+        List<LocalRateLimiter.Target> targets = new ArrayList<>(4);
+        addTarget(scopes, targets, endpoint, "ip", ip, endpoint.getPerIp());
+        if ((endpoint.getPerKeyIp() != null || endpoint.getPerKey() != null) && StringUtils.hasText(endpoint.getKeyField())) {
+            CachedBodyRequest cached = CachedBodyRequest.wrap(request, maxBodyBytes);
+            target = cached;
+            String key = extractKey(cached.getBody(), endpoint.getKeyField());
+            if (key != null) {
+                addTarget(scopes, targets, endpoint, "key-ip", key + "|" + ip, endpoint.getPerKeyIp());
+                addTarget(scopes, targets, endpoint, "key", key, endpoint.getPerKey());
+            }
+        }
+        addTarget(scopes, targets, endpoint, "global", "", endpoint.getGlobal());
+
+        if (!targets.isEmpty()) {
+            RateLimitResult result = rateLimiter.tryAcquire(targets);
+            if (!result.allowed()) {
+                String scope = scopes.get(result.rejectedRule());
+                log.debug("[RateLimit] rejected endpoint={} scope={} key={}", endpoint.getName(), scope, targets.get(result.rejectedRule()).key());
+                meterRegistry.counter("auth.rate_limit.rejected", "endpoint", endpoint.getName(), "scope", scope).increment();
+                writeTooManyRequests(response, result);
+                return;
+            }
+        }
+        filterChain.doFilter(target, response);
+    }
+
+    private static void addTarget(List<String> scopes, List<LocalRateLimiter.Target> targets,
+                                  Endpoint endpoint, String scope, String key, Limit limit) {
+        if (limit != null) {
+            scopes.add(scope);
+            targets.add(new LocalRateLimiter.Target(endpoint.getName() + ":" + scope + ":" + key, limit));
+        }
+    }
+
+    private CompiledEndpoint match(HttpServletRequest request) {
+        PathContainer path = null;
+        for (CompiledEndpoint endpoint : endpoints) {
+            if (!endpoint.method().equals(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI());
+            }
+            if (endpoint.pattern().matches(path)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    // 프록시가 덧붙인 마지막 값만 신뢰한다 (클라이언트가 보낸 앞쪽 값은 위조 가능)
+    private String clientIp(HttpServletRequest request) {
+        if (clientIpHeader != null) {
+            String forwarded = request.getHeader(clientIpHeader);
+            if (StringUtils.hasText(forwarded)) {
+                return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private String extractKey(byte[] body, String field) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode value = objectMapper.readTree(body).get(field);
+            if (value == null || !value.isTextual() || value.asText().isBlank()) {
+                return null;
+            }
+            String key = value.asText().trim().toLowerCase(Locale.ROOT);
+            return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+        } catch (IOException e) {
+            // 잘못된 JSON 은 컨트롤러에서 400 으로 처리된다
+            return null;
+        }
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitResult result) throws IOException {
+        BaseCode errorCode = GlobalErrorStatus._TOO_MANY_REQUEST.getCode();
+        byte[] body = objectMapper.writeValueAsBytes(BaseResponse.onFailure(errorCode.getCode(), errorCode.getMessage(), null));
+        response.setStatus(errorCode.getHttpStatus().value());
+        result.writeTo(response);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private record CompiledEndpoint(Endpoint endpoint, String method, PathPattern pattern) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 한도 확인 결과
+ * @param remaining 이번 요청 이후 남은 횟수 (quota 규칙 기준, 알 수 없으면 -1)
+ * @param retryAfter 거부된 경우 다시 시도할 수 있을 때까지 남은 시간
+ * @param rejectedRule 거부한 규칙의 인덱스 (tryConsume 에 넘긴 순서, 허용이면 -1)
+ */
+public record RateLimitResult(boolean allowed, long remaining, Duration retryAfter, int rejectedRule) {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    // Redis 를 쓸 수 없어 한도를 확인하지 못한 경우 (허용, 헤더 없음)
+    public static final RateLimitResult UNKNOWN = new RateLimitResult(true, -1, Duration.ZERO, -1);
+
+    public static RateLimitResult allowed(long remaining) {
+        return new RateLimitResult(true, remaining, Duration.ZERO, -1);
+    }
+
+    public static RateLimitResult rejected(Duration retryAfter, int rejectedRule) {
+        return new RateLimitResult(false, 0, retryAfter, rejectedRule);
+    }
+
+    /**
+     * X-RateLimit-Remaining, 거부된 경우 Retry-After (초, 올림)
+     */
+    public HttpHeaders toHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (remaining >= 0) {
+            headers.set(REMAINING_HEADER, String.valueOf(remaining));
+        }
+        if (!allowed) {
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds()));
+        }
+        return headers;
+    }
+
+    public void writeTo(HttpServletResponse response) {
+        toHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
+
+    private long retryAfterSeconds() {
+        long millis = retryAfter.toMillis();
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
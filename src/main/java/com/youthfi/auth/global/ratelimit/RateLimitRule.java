@@ -0,0 +1,21 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 고정 윈도우 한도 규칙: key 에 대해 window 동안 limit 회까지 허용 (윈도우는 첫 소진 시점부터)
+ * @param quota 남은 횟수(X-RateLimit-Remaining)를 이 규칙 기준으로 알릴지 (쿨다운처럼 한도 1인 규칙은 false)
+ */
+public record RateLimitRule(String key, long limit, Duration window, boolean quota) {
+
+    public static RateLimitRule of(String key, long limit, Duration window) {
+        return new RateLimitRule(key, limit, window, false);
+    }
+
+    /**
+     * 남은 횟수를 알리는 규칙 (예: 일일 발송 한도)
+     */
+    public static RateLimitRule quota(String key, long limit, Duration window) {
+        return new RateLimitRule(key, limit, window, true);
+    }
+}
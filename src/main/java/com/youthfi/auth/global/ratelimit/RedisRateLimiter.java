@@ -0,0 +1,65 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 스크립트 1회로 여러 한도를 확인하고 소진하는 rate limiter
+ * 확인(GET)과 소진(INCR)이 원자적으로 처리되므로 동시 요청이 한도를 넘길 수 없고, 왕복은 규칙 수와 상관없이 1번이다.
+ * 하나라도 거부되면 어떤 카운터도 증가시키지 않는다.
+ * 남은 횟수는 quota 규칙 기준 (여럿이면 가장 적은 값, quota 규칙이 없으면 모든 규칙 중 가장 적은 값)이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RATE_LIMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rate-limit.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RateLimitResult tryConsume(RateLimitRule... rules) {
+        List<String> keys = new ArrayList<>(rules.length);
+        String[] args = new String[rules.length * 2];
+        for (int i = 0; i < rules.length; i++) {
+            keys.add(rules[i].key());
+            args[2 * i] = String.valueOf(rules[i].limit());
+            args[2 * i + 1] = String.valueOf(rules[i].window().toMillis());
+        }
+        List<?> result = redisTemplate.execute(RATE_LIMIT_SCRIPT, keys, (Object[]) args);
+        if (result == null || result.size() < 3 + rules.length) {
+            throw new IllegalStateException("rate limit script returned " + result);
+        }
+        long remaining = remaining(rules, result);
+        if (toLong(result.get(0)) == 1) {
+            return RateLimitResult.allowed(remaining);
+        }
+        return new RateLimitResult(false, remaining, Duration.ofMillis(toLong(result.get(1))), (int) toLong(result.get(2)) - 1);
+    }
+
+    // 스크립트 결과 4번째 값부터 규칙별 남은 횟수
+    private static long remaining(RateLimitRule[] rules, List<?> result) {
+        boolean anyQuota = Arrays.stream(rules).anyMatch(RateLimitRule::quota);
+        long remaining = Long.MAX_VALUE;
+        for (int i = 0; i < rules.length; i++) {
+            if (!anyQuota || rules[i].quota()) {
+                remaining = Math.min(remaining, toLong(result.get(3 + i)));
+            }
+        }
+        return remaining;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
@@ -10,6 +10,7 @@ import com.youthfi.auth.global.annotation.CurrentUser;
 import com.youthfi.auth.global.exception.RestApiException;
 import static com.youthfi.auth.global.exception.code.status.GlobalErrorStatus._UNAUTHORIZED;
 import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -43,20 +44,21 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
                     return new RestApiException(_UNAUTHORIZED);
                 });
 
-        // 토큰 유효성 검증 추가
-        if (!tokenProvider.validateToken(token)) {
-            throw new RestApiException(_UNAUTHORIZED);
-        }
+        // 필터에서 검증한 결과를 재사용 (없으면 한 번만 파싱)
+        VerifiedToken verifiedToken = tokenProvider.resolveVerifiedToken(request, token)
+                .orElseThrow(() -> {
+                    return new RestApiException(_UNAUTHORIZED);
+                });
 
         // Access Token인지 확인
-        if (!tokenProvider.isAccessToken(token)) {
+        if (!verifiedToken.isAccessToken()) {
             throw new RestApiException(_UNAUTHORIZED);
         }
 
-        String userId = tokenProvider.getId(token)
-                .orElseThrow(() -> {
-                    return new RestApiException(_UNAUTHORIZED);
-                });
+        String userId = verifiedToken.id();
+        if (userId == null) {
+            throw new RestApiException(_UNAUTHORIZED);
+        }
 
         return userId;
     }
@@ -0,0 +1,63 @@
+package com.youthfi.auth.global.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.youthfi.auth.global.config.properties.PasswordHashingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 하드웨어(파드 CPU limit)에서 해시 1회가 목표 시간에 가장 가깝게 걸리는 BCrypt cost 를 고른다.
+ * cost 가 1 오를 때마다 시간이 2배가 되므로 최소 cost 로 한 번만 측정해 추정한다.
+ */
+@Slf4j
+public final class BcryptCalibration {
+
+    private static final int SAMPLES = 3;
+    private static final String PROBE = "bcrypt-calibration";
+
+    private BcryptCalibration() {
+    }
+
+    public static int strength(PasswordHashingProperties properties) {
+        if (properties.getStrength() > 0) {
+            return properties.getStrength();
+        }
+        int min = properties.getMinStrength();
+        int max = Math.max(min, properties.getMaxStrength());
+        long elapsed = measure(min);
+        int strength = select(elapsed, properties.getTargetHashTime(), min, max);
+        log.info("[BcryptCalibration] cost {} took {}ms, selected cost {} for target {}ms",
+                min, elapsed / 1_000_000, strength, properties.getTargetHashTime().toMillis());
+        return strength;
+    }
+
+    /**
+     * @param elapsedNanos minStrength 로 해시 1회에 걸린 시간
+     * @return 추정 시간이 목표를 넘지 않는 가장 큰 cost (최소 minStrength)
+     */
+    static int select(long elapsedNanos, Duration target, int minStrength, int maxStrength) {
+        long targetNanos = target.toNanos();
+        long estimated = Math.max(1, elapsedNanos);
+        int strength = minStrength;
+        while (strength < maxStrength && estimated * 2 <= targetNanos) {
+            estimated *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(strength);
+        probe.encode(PROBE); // JIT 워밍업
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(PROBE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,106 @@
+package com.youthfi.auth.global.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.youthfi.auth.global.security.ExcludeAuthPathProperties.AuthPath;
+
+/**
+ * 인증 제외 경로 판정기
+ * 기동 시 한 번 HTTP 메서드별로 패턴을 분류해 둔다.
+ * - 와일드카드 없는 패턴: 문자열 Set 조회
+ * - "/prefix/**" 패턴: 접두사 비교 ("/**" 는 전체 허용)
+ * - 그 외 패턴: 미리 파싱한 PathPattern (요청 경로는 한 번만 파싱)
+ * 퍼센트 인코딩이나 ';' 가 들어간 경로는 문자열 비교가 PathPattern 과 달라질 수 있어 전부 PathPattern 으로 판정한다.
+ */
+public class ExcludedPathMatcher {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private final Map<String, MethodIndex> indexByMethod;
+
+    public ExcludedPathMatcher(List<AuthPath> authPaths) {
+        PathPatternParser parser = new PathPatternParser();
+        Map<String, MethodIndex> index = new HashMap<>();
+        for (AuthPath authPath : authPaths) {
+            index.computeIfAbsent(authPath.getMethod().toUpperCase(), method -> new MethodIndex())
+                    .add(authPath.getPathPattern(), parser.parse(authPath.getPathPattern()));
+        }
+        this.indexByMethod = Map.copyOf(index);
+    }
+
+    public boolean matches(String method, String requestPath) {
+        MethodIndex index = indexByMethod.get(method);
+        return index != null && index.matches(requestPath);
+    }
+
+    private static final class MethodIndex {
+
+        private final Set<String> literals = new HashSet<>();
+        private final List<String> prefixes = new ArrayList<>();
+        private final List<PathPattern> residuals = new ArrayList<>();
+        private final List<PathPattern> all = new ArrayList<>();
+        private boolean matchAll;
+
+        void add(String rawPattern, PathPattern pattern) {
+            all.add(pattern);
+            if (ANY_SUFFIX.equals(rawPattern)) {
+                matchAll = true;
+            } else if (isLiteral(rawPattern)) {
+                literals.add(rawPattern);
+            } else if (rawPattern.endsWith(ANY_SUFFIX) && isLiteral(rawPattern.substring(0, rawPattern.length() - ANY_SUFFIX.length()))) {
+                prefixes.add(rawPattern.substring(0, rawPattern.length() - ANY_SUFFIX.length()));
+            } else {
+                residuals.add(pattern);
+            }
+        }
+
+        boolean matches(String requestPath) {
+            if (matchAll) {
+                return true;
+            }
+            if (requestPath.indexOf('%') >= 0 || requestPath.indexOf(';') >= 0) {
+                return matchesAny(all, requestPath);
+            }
+            if (literals.contains(requestPath)) {
+                return true;
+            }
+            for (int i = 0; i < prefixes.size(); i++) {
+                String prefix = prefixes.get(i);
+                if (requestPath.startsWith(prefix)
+                        && (requestPath.length() == prefix.length() || requestPath.charAt(prefix.length()) == '/')) {
+                    return true;
+                }
+            }
+            return !residuals.isEmpty() && matchesAny(residuals, requestPath);
+        }
+
+        private static boolean matchesAny(List<PathPattern> patterns, String requestPath) {
+            PathContainer path = PathContainer.parsePath(requestPath);
+            for (int i = 0; i < patterns.size(); i++) {
+                if (patterns.get(i).matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isLiteral(String pattern) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '*' || c == '?' || c == '{' || c == '}' || c == '%' || c == ';') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.youthfi.auth.global.security;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * 공개 키를 JWK(RFC 7517) 형태로 변환
+ */
+final class Jwks {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private Jwks() {
+    }
+
+    static Map<String, Object> toJwk(PublicKey publicKey, String keyId, SignatureAlgorithm algorithm) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", encode(rsa.getModulus(), 0));
+            jwk.put("e", encode(rsa.getPublicExponent(), 0));
+        } else if (publicKey instanceof ECPublicKey ec) {
+            // ES256 는 P-256 곡선, 좌표는 32바이트 고정 길이
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encode(ec.getW().getAffineX(), 32));
+            jwk.put("y", encode(ec.getW().getAffineY(), 32));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 공개 키 형식입니다: " + publicKey.getAlgorithm());
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        if (keyId != null) {
+            jwk.put("kid", keyId);
+        }
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    // 부호 바이트를 제거한 big-endian 값 (length > 0 이면 앞을 0 으로 채움)
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        int size = Math.max(bytes.length - offset, length);
+        byte[] unsigned = new byte[size];
+        System.arraycopy(bytes, offset, unsigned, size - (bytes.length - offset), bytes.length - offset);
+        return BASE64_URL.encodeToString(unsigned);
+    }
+}
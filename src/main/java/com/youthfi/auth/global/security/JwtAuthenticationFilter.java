@@ -1,19 +1,19 @@
 package com.youthfi.auth.global.security;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
 
-import org.springframework.http.HttpMethod;
-import org.springframework.http.server.PathContainer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.pattern.PathPatternParser;
 
 import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
 import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
 import com.youthfi.auth.global.exception.RestApiException;
+import com.youthfi.auth.global.exception.code.status.AuthErrorStatus;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.EMPTY_JWT;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.INVALID_ACCESS_TOKEN;
 
@@ -21,19 +21,37 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
-    private final ExcludeAuthPathProperties excludeAuthPathProperties;
     private final RefreshTokenService refreshTokenService;
     private final TokenWhitelistService tokenWhitelistService;
 
-    private final PathPatternParser pathPatternParser = new PathPatternParser();
+    private static final String UNAUTHORIZED_CONTENT_TYPE = "application/json;charset=UTF-8";
+    // 401 응답 본문은 에러 코드별로 미리 만들어 둔다
+    private static final Map<AuthErrorStatus, byte[]> UNAUTHORIZED_BODIES = new EnumMap<>(AuthErrorStatus.class);
+
+    static {
+        for (AuthErrorStatus errorStatus : AuthErrorStatus.values()) {
+            UNAUTHORIZED_BODIES.put(errorStatus, unauthorizedBody(errorStatus.getMessage()));
+        }
+    }
+
+    // 제외 경로 패턴은 기동 시 한 번만 컴파일
+    private final ExcludedPathMatcher excludedPathMatcher;
+
+    public JwtAuthenticationFilter(TokenProvider tokenProvider,
+                                   ExcludeAuthPathProperties excludeAuthPathProperties,
+                                   RefreshTokenService refreshTokenService,
+                                   TokenWhitelistService tokenWhitelistService) {
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenWhitelistService = tokenWhitelistService;
+        this.excludedPathMatcher = new ExcludedPathMatcher(excludeAuthPathProperties.getPaths());
+    }
 
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         log.debug("[JwtAuthFilter] start: {} {}", request.getMethod(), request.getRequestURI());
@@ -44,63 +62,79 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String token = tokenProvider.getToken(request)
-                    .orElseThrow(() -> {
-                        log.warn("[JwtAuthFilter] missing Authorization header");
-                        return new RestApiException(EMPTY_JWT);
-                    });
+            // 거절 경로는 예외/문자열 생성 없이 미리 만든 응답을 바로 쓴다 (스캐너, 만료 클라이언트 대량 요청 대비)
+            String token = tokenProvider.resolveToken(request);
+            if (token == null) {
+                log.debug("[JwtAuthFilter] missing Authorization header");
+                writeUnauthorized(response, EMPTY_JWT);
+                return;
+            }
 
-            // 토큰 캐시 확인
+            // 1차 캐시: 파드 로컬 (네트워크 호출 없음)
+            Optional<VerifiedToken> cached = tokenWhitelistService.findLocal(token);
+            if (cached.isPresent()) {
+                log.debug("[JwtAuthFilter] token whitelisted (local)");
+                tokenProvider.bindVerifiedToken(request, cached.get());
+                setAuthentication(cached.get());
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // 2차 캐시: Redis (파드 간 공유)
             if (tokenWhitelistService.isWhitelistToken(token)) {
                 log.debug("[JwtAuthFilter] token whitelisted");
-                setAuthentication(token);
+                tokenProvider.resolveVerifiedToken(request, token)
+                        .ifPresent(verifiedToken -> {
+                            setAuthentication(verifiedToken);
+                            tokenWhitelistService.cacheLocal(verifiedToken);
+                        });
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // 토큰 검증
-            if (tokenProvider.validateToken(token)) {
-                log.info("[JwtAuthFilter] token valid, authenticating user");
-                setAuthentication(token);
-                // 토큰 캐시
-                tokenWhitelistService.whitelist(token, Duration.ofSeconds(30));
-            } else {
-                log.warn("[JwtAuthFilter] invalid token");
-                throw new RestApiException(INVALID_ACCESS_TOKEN);
+            // 토큰 검증 (한 번만 파싱하고 결과는 요청에 저장해 이후 단계에서 재사용)
+            VerifiedToken verifiedToken = tokenProvider.resolveVerifiedToken(request, token).orElse(null);
+            if (verifiedToken == null) {
+                log.debug("[JwtAuthFilter] invalid token");
+                writeUnauthorized(response, INVALID_ACCESS_TOKEN);
+                return;
             }
+            log.info("[JwtAuthFilter] token valid, authenticating user");
+            setAuthentication(verifiedToken);
+            // 토큰 캐시 (로컬 + Redis)
+            tokenWhitelistService.whitelist(verifiedToken);
 
             filterChain.doFilter(request, response);
         } catch (RestApiException e) {
             log.error("[JwtAuthFilter] authentication error: {}", e.getErrorCode().getMessage());
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
+            writeUnauthorized(response, unauthorizedBody(e.getErrorCode().getMessage()));
+        }
+    }
 
-            String message = e.getErrorCode().getMessage() != null ? e.getErrorCode().getMessage() : "인증 오류가 발생했습니다.";
-            String jsonResponse = String.format("{\"message\": \"%s\"}", message);
+    private void writeUnauthorized(HttpServletResponse response, AuthErrorStatus errorStatus) throws IOException {
+        writeUnauthorized(response, UNAUTHORIZED_BODIES.get(errorStatus));
+    }
 
-            PrintWriter writer = response.getWriter();
-            writer.write(jsonResponse);
-            writer.flush();
-            writer.close();
-        }
+    private void writeUnauthorized(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(UNAUTHORIZED_CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] unauthorizedBody(String message) {
+        String escaped = (message != null ? message : "인증 오류가 발생했습니다.")
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"");
+        return ("{\"message\": \"" + escaped + "\"}").getBytes(StandardCharsets.UTF_8);
     }
 
     public boolean isExcludedPath(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        HttpMethod requestMethod = HttpMethod.valueOf(request.getMethod());
-
-        return excludeAuthPathProperties.getPaths().stream()
-                .anyMatch(authPath ->
-                        pathPatternParser.parse(authPath.getPathPattern())
-                                .matches(PathContainer.parsePath(requestPath))
-                                && requestMethod.equals(HttpMethod.valueOf(authPath.getMethod()))
-                );
+        return excludedPathMatcher.matches(request.getMethod(), request.getRequestURI());
     }
 
-    private void setAuthentication(String token) {
-        if (tokenProvider.validateToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+    private void setAuthentication(VerifiedToken verifiedToken) {
+        Authentication authentication = tokenProvider.getAuthentication(verifiedToken);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.youthfi.auth.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 키링의 서명/검증 키 하나
+ * HS256 은 비밀키 하나로 서명과 검증을 모두 하고, RS256/ES256 은 개인 키로 서명하고 공개 키로 검증한다.
+ * 교체 후 검증에만 쓰는(retiring) 비대칭 키는 개인 키 없이 등록할 수 있다.
+ */
+public record JwtKey(String keyId, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey, PublicKey publicKey) {
+
+    static JwtKey of(String keyId, String algorithmName, String secret, String privateKeyPem, String publicKeyPem) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(
+                StringUtils.hasText(algorithmName) ? algorithmName : SignatureAlgorithm.HS256.getValue());
+        String kid = StringUtils.hasText(keyId) ? keyId : null;
+
+        if (algorithm == SignatureAlgorithm.HS256) {
+            if (!StringUtils.hasText(secret)) {
+                throw new IllegalStateException("HS256 키에 secret 이 없습니다. kid=" + kid);
+            }
+            Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new JwtKey(kid, algorithm, key, key, null);
+        }
+        if (algorithm == SignatureAlgorithm.RS256 || algorithm == SignatureAlgorithm.ES256) {
+            String keyType = algorithm.isRsa() ? "RSA" : "EC";
+            Key privateKey = StringUtils.hasText(privateKeyPem) ? readPrivateKey(privateKeyPem, keyType) : null;
+            PublicKey publicKey = readPublicKey(publicKeyPem, keyType);
+            return new JwtKey(kid, algorithm, privateKey, publicKey, publicKey);
+        }
+        throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithm.getValue());
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    private static Key readPrivateKey(String pem, String keyType) {
+        try {
+            return KeyFactory.getInstance(keyType).generatePrivate(new PKCS8EncodedKeySpec(decodePem(pem)));
+        } catch (Exception e) {
+            throw new IllegalStateException("개인 키(PKCS#8 PEM)를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PublicKey readPublicKey(String pem, String keyType) {
+        try {
+            return KeyFactory.getInstance(keyType).generatePublic(new X509EncodedKeySpec(decodePem(pem)));
+        } catch (Exception e) {
+            throw new IllegalStateException("공개 키(X.509 PEM)를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] decodePem(String pem) {
+        if (!StringUtils.hasText(pem)) {
+            throw new IllegalArgumentException("empty PEM");
+        }
+        String body = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+}
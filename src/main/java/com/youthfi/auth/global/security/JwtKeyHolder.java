@@ -0,0 +1,124 @@
+package com.youthfi.auth.global.security;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.JwtParser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 키링과 파서를 한 번만 만들어 재사용하는 홀더
+ * jwt.keyring.location 이 있으면 키링 파일을 주기적으로 확인해 바뀐 경우에만 다시 읽고(재시작 없이 키 교체),
+ * 없으면 jwt.key / jwt.private-key 단일 키를 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyHolder {
+
+    private final JwtProperties jwtProperties;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void init() {
+        if (StringUtils.hasText(jwtProperties.getKeyringLocation())) {
+            // 기동 시에는 키링을 읽지 못하면 실패시킨다
+            this.snapshot = loadKeyring(Path.of(jwtProperties.getKeyringLocation()));
+        }
+        current();
+    }
+
+    /**
+     * 서명에 쓸 active 키. kid, 알고리즘, 키를 한 번에 읽어 교체 중에도 서로 어긋나지 않게 한다.
+     */
+    public JwtKey getActiveKey() {
+        return current().keyring().active();
+    }
+
+    public JwtParser getParser() {
+        return current().keyring().parser();
+    }
+
+    /**
+     * 공개 가능한 검증 키 목록 (JWKS keys). active + retiring 비대칭 키를 모두 포함하고 HS256 키는 제외한다.
+     */
+    public List<Map<String, Object>> getJwks() {
+        return current().keyring().jwks();
+    }
+
+    /**
+     * 키링 파일이 바뀌었으면 다시 읽는다. 잘못된 파일이면 기존 키링을 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keyring.reload-interval:30s}")
+    public void reload() {
+        String location = jwtProperties.getKeyringLocation();
+        if (!StringUtils.hasText(location)) {
+            return;
+        }
+        Path path = Path.of(location);
+        try {
+            Snapshot previous = this.snapshot;
+            if (previous != null && Objects.equals(previous.modified(), Files.getLastModifiedTime(path))) {
+                return;
+            }
+            this.snapshot = loadKeyring(path);
+        } catch (Exception e) {
+            log.warn("[JwtKeyHolder] keyring reload failed, keep previous keyring: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = this.snapshot;
+        if (current != null && (current.modified() != null || current.properties().matches(jwtProperties))) {
+            return current;
+        }
+        // 단일 키 모드: 키 설정 값이 바뀐 경우에만 다시 생성
+        JwtKey key = JwtKey.of(jwtProperties.getKeyId(), jwtProperties.getAlgorithm(), jwtProperties.getKey(),
+                jwtProperties.getPrivateKey(), jwtProperties.getPublicKey());
+        current = new Snapshot(null, PropertiesSource.of(jwtProperties), JwtKeyring.single(key));
+        this.snapshot = current;
+        return current;
+    }
+
+    private static Snapshot loadKeyring(Path path) {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            JwtKeyring keyring = JwtKeyring.read(path);
+            log.info("[JwtKeyHolder] keyring loaded: active kid={}, {} keys", keyring.active().keyId(), keyring.keyCount());
+            return new Snapshot(modified, null, keyring);
+        } catch (Exception e) {
+            throw new IllegalStateException("JWT 키링을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    // modified: 키링 파일의 수정 시각 (단일 키 모드면 null), properties: 단일 키 모드의 설정 값
+    private record Snapshot(FileTime modified, PropertiesSource properties, JwtKeyring keyring) {
+    }
+
+    private record PropertiesSource(String algorithm, String keyId, String key, String privateKey, String publicKey) {
+
+        static PropertiesSource of(JwtProperties properties) {
+            return new PropertiesSource(properties.getAlgorithm(), properties.getKeyId(), properties.getKey(),
+                    properties.getPrivateKey(), properties.getPublicKey());
+        }
+
+        boolean matches(JwtProperties properties) {
+            return Objects.equals(algorithm, properties.getAlgorithm())
+                    && Objects.equals(keyId, properties.getKeyId())
+                    && Objects.equals(key, properties.getKey())
+                    && Objects.equals(privateKey, properties.getPrivateKey())
+                    && Objects.equals(publicKey, properties.getPublicKey());
+        }
+    }
+}
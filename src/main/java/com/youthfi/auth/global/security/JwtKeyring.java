@@ -0,0 +1,138 @@
+package com.youthfi.auth.global.security;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * 서명에 쓰는 active 키 하나와 검증에만 쓰는 retiring 키들의 묶음
+ * 검증 시에는 JWT 헤더의 kid 로 키를 바로 고르고, kid 가 없는 토큰(키링 도입 이전 발급분)은 fallback 키로 검증한다.
+ */
+final class JwtKeyring {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Map<String, JwtKey> keys;
+    private final JwtKey active;
+    private final JwtKey fallback;
+    private final JwtParser parser;
+    private final List<Map<String, Object>> jwks;
+    private final int keyCount;
+
+    private JwtKeyring(List<JwtKey> keyList, JwtKey active, JwtKey fallback) {
+        if (active == null || !active.canSign()) {
+            throw new IllegalStateException("서명 가능한 active 키가 없습니다.");
+        }
+        Map<String, JwtKey> byKid = new HashMap<>();
+        List<Map<String, Object>> publicKeys = new ArrayList<>();
+        for (JwtKey key : keyList) {
+            if (key.keyId() != null && byKid.put(key.keyId(), key) != null) {
+                throw new IllegalStateException("중복된 kid 입니다: " + key.keyId());
+            }
+            if (key.publicKey() != null) {
+                publicKeys.add(Jwks.toJwk(key.publicKey(), key.keyId(), key.algorithm()));
+            }
+        }
+        this.keys = Map.copyOf(byKid);
+        this.active = active;
+        this.fallback = fallback;
+        this.jwks = List.copyOf(publicKeys);
+        this.keyCount = keyList.size();
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolve(header).verificationKey();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * jwt.key / jwt.private-key 단일 키 설정 (키링 파일이 없을 때)
+     */
+    static JwtKeyring single(JwtKey key) {
+        return new JwtKeyring(List.of(key), key, key);
+    }
+
+    /**
+     * 키링 파일(JSON) 읽기
+     * <pre>
+     * {"active": "2026-10", "fallback": "legacy",
+     *  "keys": [{"kid": "2026-10", "algorithm": "RS256", "privateKey": "...", "publicKey": "..."},
+     *           {"kid": "legacy", "algorithm": "HS256", "secret": "..."}]}
+     * </pre>
+     */
+    static JwtKeyring read(Path path) throws IOException {
+        KeyringFile file = OBJECT_MAPPER.readValue(path.toFile(), KeyringFile.class);
+        if (file.keys() == null || file.keys().isEmpty()) {
+            throw new IllegalStateException("키링에 키가 없습니다: " + path);
+        }
+        List<JwtKey> keyList = file.keys().stream()
+                .map(entry -> {
+                    if (entry.kid() == null || entry.kid().isBlank()) {
+                        throw new IllegalStateException("키링의 모든 키에는 kid 가 필요합니다.");
+                    }
+                    return JwtKey.of(entry.kid(), entry.algorithm(), entry.secret(), entry.privateKey(), entry.publicKey());
+                })
+                .toList();
+        JwtKey active = find(keyList, file.active());
+        JwtKey fallback = file.fallback() != null ? find(keyList, file.fallback()) : null;
+        return new JwtKeyring(keyList, active, fallback);
+    }
+
+    JwtKey active() {
+        return active;
+    }
+
+    JwtParser parser() {
+        return parser;
+    }
+
+    List<Map<String, Object>> jwks() {
+        return jwks;
+    }
+
+    int keyCount() {
+        return keyCount;
+    }
+
+    private JwtKey resolve(JwsHeader header) {
+        String kid = header.getKeyId();
+        JwtKey key = kid == null ? fallback : keys.get(kid);
+        if (key == null) {
+            throw new SignatureException("알 수 없는 kid 입니다: " + kid);
+        }
+        // 헤더의 alg 를 그대로 믿지 않고 키에 지정된 알고리즘과 같은지 확인 (알고리즘 혼동 공격 방지)
+        if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("kid 와 alg 가 일치하지 않습니다: " + kid);
+        }
+        return key;
+    }
+
+    private static JwtKey find(List<JwtKey> keyList, String kid) {
+        return keyList.stream()
+                .filter(key -> key.keyId().equals(kid))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("키링에 없는 kid 입니다: " + kid));
+    }
+
+    private record KeyringFile(String active, String fallback, List<KeyEntry> keys) {
+    }
+
+    private record KeyEntry(String kid, String algorithm, String secret, String privateKey, String publicKey) {
+    }
+}
@@ -21,6 +21,21 @@ public class JwtProperties {
 
     @Value("${jwt.verification-expiration-ms:900000}") // 15분 기본값
     private Long verificationExpirationMs;
+
+    @Value("${jwt.algorithm:HS256}") // HS256 | RS256 | ES256
+    private String algorithm;
+
+    @Value("${jwt.key-id:}") // JWT 헤더의 kid, JWKS 의 kid
+    private String keyId;
+
+    @Value("${jwt.private-key:}") // RS256/ES256 서명 키 (PKCS#8 PEM)
+    private String privateKey;
+
+    @Value("${jwt.public-key:}") // RS256/ES256 검증 키 (X.509 PEM), JWKS 로 공개
+    private String publicKey;
+
+    @Value("${jwt.keyring.location:}") // 키링 파일(JSON) 경로. 지정하면 위 단일 키 설정 대신 사용하고 주기적으로 다시 읽는다
+    private String keyringLocation;
     
     public String getKey() {
         return key;
@@ -1,6 +1,5 @@
 package com.youthfi.auth.global.security;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
@@ -16,9 +15,8 @@ import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.UNSU
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -27,57 +25,116 @@ import lombok.RequiredArgsConstructor;
 public class TokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final JwtKeyHolder jwtKeyHolder;
 
-    private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
+    static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String EMAIL_VERIFICATION_SUBJECT = "EmailVerification";
     private static final String TOKEN_HEADER = "Authorization";
     private static final String BEARER = "Bearer ";
-    private static final String ID_CLAIM = "id";
+    static final String ID_CLAIM = "id";
+    static final String SESSION_ID_CLAIM = "sid";
     private static final String TYPE_CLAIM = "type";
+    private static final String VERIFIED_TOKEN_ATTRIBUTE = VerifiedToken.class.getName();
 
 
     public String createAccessToken(String id) {
+        return createAccessToken(id, null);
+    }
+
+    /**
+     * @param sessionId 로그인 세션(기기) ID, null 이면 sid 클레임 없이 발급
+     */
+    public String createAccessToken(String id, String sessionId) {
         Date now = new Date();
+        JwtKey signingKey = jwtKeyHolder.getActiveKey();
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.keyId())
                 .setIssuedAt(now)
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenExpirationMs()))
                 .setSubject(ACCESS_TOKEN_SUBJECT)
                 .claim(ID_CLAIM, id)
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .claim(SESSION_ID_CLAIM, sessionId)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
     public String createRefreshToken(String id) {
+        return createRefreshToken(id, null);
+    }
+
+    public String createRefreshToken(String id, String sessionId) {
         Date now = new Date();
+        JwtKey signingKey = jwtKeyHolder.getActiveKey();
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.keyId())
                 .setIssuedAt(now)
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenExpirationMs()))
                 .setSubject(REFRESH_TOKEN_SUBJECT)
                 .claim(ID_CLAIM, id)
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .claim(SESSION_ID_CLAIM, sessionId)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
     public Boolean validateToken(String jwtToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseClaimsJws(jwtToken);  // Decode
+            jwtKeyHolder.getParser().parseClaimsJws(jwtToken);  // Decode
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * 토큰을 한 번만 파싱해 검증된 클레임을 반환
+     * @param token JWT 토큰
+     * @return 서명/만료 검증에 실패하면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(VerifiedToken.of(token, getClaims(token)));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청에 저장된 검증 결과를 재사용하고, 없으면 한 번 파싱해 요청에 저장
+     * @param request 현재 요청
+     * @param token 요청의 JWT 토큰
+     * @return 검증된 토큰 (검증 실패 시 empty)
+     */
+    public Optional<VerifiedToken> resolveVerifiedToken(HttpServletRequest request, String token) {
+        if (request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verifiedToken
+                && verifiedToken.token().equals(token)) {
+            return Optional.of(verifiedToken);
+        }
+        Optional<VerifiedToken> verified = verify(token);
+        verified.ifPresent(verifiedToken -> bindVerifiedToken(request, verifiedToken));
+        return verified;
+    }
+
+    /**
+     * 캐시 등에서 얻은 검증 결과를 요청에 저장해 이후 단계에서 재사용
+     */
+    public void bindVerifiedToken(HttpServletRequest request, VerifiedToken verifiedToken) {
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+    }
+
     public Authentication getAuthentication(String token) {
         Claims claims = getClaims(token);
         // 권한 없이 인증된 사용자로만 처리
         return new UsernamePasswordAuthenticationToken(claims.get(ID_CLAIM, String.class), "", Collections.emptyList());
     }
 
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        // 권한 없이 인증된 사용자로만 처리
+        return new UsernamePasswordAuthenticationToken(verifiedToken.id(), "", Collections.emptyList());
+    }
+
     public Optional<String> getId(String token) {
         try {
             return Optional.ofNullable(getClaims(token).get(ID_CLAIM, String.class));
@@ -89,14 +146,23 @@ public class TokenProvider {
 
 
     public Optional<String> getToken(HttpServletRequest request) {
-        return Optional.ofNullable(request.getHeader(TOKEN_HEADER))
-                .filter(token -> token.startsWith(BEARER))
-                .map(token -> token.replace(BEARER, ""));
+        return Optional.ofNullable(resolveToken(request));
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출 (요청 hot path 용, Optional 없이 null 반환)
+     * @return 헤더가 없거나 Bearer 형식이 아니면 null
+     */
+    public String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(TOKEN_HEADER);
+        if (header == null || header.length() <= BEARER.length() || !header.startsWith(BEARER)) {
+            return null;
+        }
+        return header.substring(BEARER.length());
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
-                .build()
+        return jwtKeyHolder.getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -131,14 +197,16 @@ public class TokenProvider {
      */
     public String createEmailVerificationToken(String email, String type) {
         Date now = new Date();
+        JwtKey signingKey = jwtKeyHolder.getActiveKey();
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.keyId())
                 .setIssuedAt(now)
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getVerificationExpirationMs()))
                 .setSubject(EMAIL_VERIFICATION_SUBJECT)
                 .claim(ID_CLAIM, email)  // 이메일을 ID 클레임에 저장
                 .claim(TYPE_CLAIM, type)  // 토큰 타입 저장
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
@@ -0,0 +1,39 @@
+package com.youthfi.auth.global.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 JWT 와 파싱된 클레임
+ * 필터에서 한 번 만들어 요청 속성에 저장하고, 이후 단계에서는 다시 파싱하지 않고 재사용한다.
+ */
+public record VerifiedToken(String token, Claims claims, String id, String subject, Date expiration) {
+
+    static VerifiedToken of(String token, Claims claims) {
+        return new VerifiedToken(
+                token,
+                claims,
+                claims.get(TokenProvider.ID_CLAIM, String.class),
+                claims.getSubject(),
+                claims.getExpiration()
+        );
+    }
+
+    public boolean isAccessToken() {
+        return TokenProvider.ACCESS_TOKEN_SUBJECT.equals(subject);
+    }
+
+    /**
+     * 로그인 세션(기기) ID. 세션 도입 전에 발급된 토큰이면 null
+     */
+    public String sessionId() {
+        return claims == null ? null : claims.get(TokenProvider.SESSION_ID_CLAIM, String.class);
+    }
+
+    public Duration remainingDuration() {
+        return Duration.between(Instant.now(), expiration.toInstant());
+    }
+}
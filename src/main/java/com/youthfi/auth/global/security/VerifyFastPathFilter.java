@@ -0,0 +1,81 @@
+package com.youthfi.auth.global.security;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.youthfi.auth.domain.auth.domain.service.TokenBlacklistService;
+import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
+import com.youthfi.auth.global.config.properties.VerifyProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Nginx Ingress auth-request 전용 경량 토큰 검증 필터
+ * Spring Security 체인, 트랜잭션, 엔티티 조회 없이 바로 응답한다.
+ * 성공 시 200 + X-User-Id 헤더, 실패 시 401 (본문 없음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class VerifyFastPathFilter extends OncePerRequestFilter {
+
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    private final TokenProvider tokenProvider;
+    private final TokenWhitelistService tokenWhitelistService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final UserStatusService userStatusService;
+    private final VerifyProperties verifyProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !verifyProperties.getPath().equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String userId = authenticate(request);
+        response.setContentLength(0);
+        if (userId == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(USER_ID_HEADER, userId);
+    }
+
+    private String authenticate(HttpServletRequest request) {
+        String token = tokenProvider.resolveToken(request);
+        if (token == null) {
+            return null;
+        }
+
+        // 로컬 캐시에 있으면 서명 검증 생략, 없으면 한 번 검증 후 로컬에만 캐시 (Redis 쓰기 없음)
+        Optional<VerifiedToken> cached = tokenWhitelistService.findLocal(token);
+        VerifiedToken verifiedToken = cached.or(() -> tokenProvider.verify(token)).orElse(null);
+        if (verifiedToken == null || !verifiedToken.isAccessToken() || verifiedToken.id() == null) {
+            return null;
+        }
+        if (cached.isEmpty()) {
+            tokenWhitelistService.cacheLocal(verifiedToken);
+        }
+
+        // 블랙리스트는 대부분 로컬 블룸 필터에서 판정
+        if (tokenBlacklistService.isBlacklistToken(token)) {
+            log.debug("[VerifyFastPath] blacklisted token");
+            return null;
+        }
+        if (!userStatusService.isActiveUser(verifiedToken.id())) {
+            log.debug("[VerifyFastPath] inactive user: {}", verifiedToken.id());
+            return null;
+        }
+        return verifiedToken.id();
+    }
+}
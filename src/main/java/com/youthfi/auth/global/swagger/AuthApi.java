@@ -1,14 +1,18 @@
 package com.youthfi.auth.global.swagger;
 
+import java.util.List;
+
 import com.youthfi.auth.domain.auth.application.dto.request.LoginRequest;
 import com.youthfi.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.youthfi.auth.domain.auth.application.dto.request.SocialLoginRequest;
 import com.youthfi.auth.domain.auth.application.dto.request.TokenReissueRequest;
 import com.youthfi.auth.domain.auth.application.dto.response.LoginResponse;
+import com.youthfi.auth.domain.auth.application.dto.response.SessionResponse;
 import com.youthfi.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.youthfi.auth.global.common.BaseResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -56,7 +60,7 @@ public interface AuthApi extends BaseApi {
                     content = @Content(schema = @Schema(implementation = BaseResponse.class))
             )
     })
-    BaseResponse<LoginResponse> login(LoginRequest request);
+    BaseResponse<LoginResponse> login(LoginRequest request, @Parameter(hidden = true) String userAgent);
 
     @Operation(
             summary = "로그아웃",
@@ -76,6 +80,41 @@ public interface AuthApi extends BaseApi {
     })
     BaseResponse<?> logout(HttpServletRequest request);
 
+    @Operation(
+            summary = "로그인 세션 목록",
+            description = "현재 사용자의 로그인 세션(기기) 목록을 최근 사용 순으로 반환합니다. 현재 요청의 세션은 current=true 입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    BaseResponse<List<SessionResponse>> getSessions(String userId, HttpServletRequest request);
+
+    @Operation(
+            summary = "로그인 세션 폐기",
+            description = "지정한 세션(기기)을 로그아웃시킵니다. 해당 기기는 더 이상 토큰을 재발급할 수 없습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "폐기 성공",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "세션 없음",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    BaseResponse<Void> revokeSession(String userId, String sessionId);
+
     @Operation(
             summary = "토큰 재발급",
             description = "refresh token을 사용하여 새로운 access token을 발급받습니다."
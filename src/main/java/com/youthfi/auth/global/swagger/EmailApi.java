@@ -6,11 +6,14 @@ import com.youthfi.auth.domain.email.application.dto.response.EmailVerificationR
 import com.youthfi.auth.global.common.BaseResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * 이메일 인증 관련 API 인터페이스
@@ -20,12 +23,14 @@ public interface EmailApi extends BaseApi {
 
     @Operation(
             summary = "이메일 인증 코드 발송",
-            description = "회원가입용 이메일 인증 6자리 코드를 발송합니다. 쿨다운 및 일일 발송 제한이 적용됩니다."
+            description = "회원가입용 이메일 인증 6자리 코드를 발송합니다. 쿨다운 및 일일 발송 제한이 적용됩니다. "
+                    + "메일은 비동기로 발송되므로 응답은 발송 요청 접수만 의미합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
-                    responseCode = "200",
-                    description = "인증 코드 발송 성공",
+                    responseCode = "202",
+                    description = "인증 코드 발송 요청 접수",
+                    headers = @Header(name = "X-RateLimit-Remaining", description = "오늘 남은 발송 횟수"),
                     content = @Content(schema = @Schema(implementation = BaseResponse.class))
             ),
             @ApiResponse(
@@ -36,6 +41,7 @@ public interface EmailApi extends BaseApi {
             @ApiResponse(
                     responseCode = "429",
                     description = "쿨다운 중이거나 일일 발송 횟수 초과",
+                    headers = @Header(name = "Retry-After", description = "다시 요청할 수 있을 때까지 남은 시간 (초)"),
                     content = @Content(schema = @Schema(implementation = BaseResponse.class))
             ),
             @ApiResponse(
@@ -44,7 +50,7 @@ public interface EmailApi extends BaseApi {
                     content = @Content(schema = @Schema(implementation = BaseResponse.class))
             )
     })
-    BaseResponse<Void> sendVerification(SendVerificationRequest request);
+    BaseResponse<Void> sendVerification(SendVerificationRequest request, @Parameter(hidden = true) HttpServletResponse response);
 
     @Operation(
             summary = "이메일 인증 코드 검증",
@@ -0,0 +1,50 @@
+package com.youthfi.auth.global.util;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis pub/sub 구독 관리
+ * 리스너 컨테이너는 자동 시작하지 않고, 로컬 캐시 동기화 작업이 필요할 때 구독을 시작/재시작한다.
+ * Redis 가 내려가 있어도 애플리케이션 기동은 실패하지 않으며, 호출 측은 구독 여부를 보고 로컬 캐시 신뢰 여부를 정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSubscriptionManager {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public void addListener(MessageListener listener, Topic topic) {
+        redisMessageListenerContainer.addMessageListener(listener, topic);
+    }
+
+    /**
+     * 현재 구독 중인지 (조회 경로에서 로컬 캐시를 믿어도 되는지 판단할 때 사용)
+     */
+    public boolean isListening() {
+        return redisMessageListenerContainer.isListening();
+    }
+
+    /**
+     * 구독 중이 아니면 컨테이너를 다시 시작한다.
+     * @return 구독 중이면 true
+     */
+    public synchronized boolean ensureListening() {
+        if (redisMessageListenerContainer.isListening()) {
+            return true;
+        }
+        try {
+            redisMessageListenerContainer.stop();
+            redisMessageListenerContainer.start();
+        } catch (Exception e) {
+            log.warn("[RedisSubscription] subscribe failed: {}", e.getMessage());
+        }
+        return redisMessageListenerContainer.isListening();
+    }
+}
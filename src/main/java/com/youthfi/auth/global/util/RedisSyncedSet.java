@@ -0,0 +1,124 @@
+package com.youthfi.auth.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.Topic;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 에 원본을 두고 파드마다 메모리에 복제하는 집합
+ * 등록은 pub/sub 으로 전파받고, 누락 보정을 위해 주기적으로 Redis 에서 다시 읽는다.
+ * 동기화 전이거나 구독이 끊겼거나 다시 맺어진 뒤(그 사이 등록을 놓쳤을 수 있음)에는 snapshot() 이 null 을 돌려주고,
+ * 호출 측은 다음 reload 전까지 Redis 로 조회한다.
+ * @param <S> 복제본 자료구조 (Set, 블룸 필터 등)
+ */
+@Slf4j
+public class RedisSyncedSet<S> implements MessageListener, SubscriptionListener {
+
+    private final String name;
+    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final Supplier<S> factory;
+    private final BiConsumer<S, String> adder;
+
+    private volatile S current;
+    // reload 중 들어온 등록을 새 복제본에도 반영하기 위한 참조
+    private volatile S reloading;
+
+    /**
+     * @param name  로그 구분용 이름
+     * @param adder 복제본에 원소(pub/sub 메시지 본문과 같은 형식) 추가
+     */
+    public RedisSyncedSet(String name, RedisSubscriptionManager redisSubscriptionManager, Topic topic,
+                          Supplier<S> factory, BiConsumer<S, String> adder) {
+        this.name = name;
+        this.redisSubscriptionManager = redisSubscriptionManager;
+        this.factory = factory;
+        this.adder = adder;
+        redisSubscriptionManager.addListener(this, topic);
+    }
+
+    /**
+     * 믿을 수 있는 복제본. null 이면 Redis 로 조회해야 한다.
+     */
+    public S snapshot() {
+        S snapshot = this.current;
+        if (snapshot != null && !redisSubscriptionManager.isListening()) {
+            this.current = null;
+            log.warn("[{}] pub/sub unavailable, fall back to Redis lookups", name);
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Redis 에 반영한 등록을 이 파드의 복제본에 바로 반영
+     */
+    public void add(String element) {
+        S snapshot = this.current;
+        if (snapshot != null) {
+            adder.accept(snapshot, element);
+        }
+        S next = this.reloading;
+        if (next != null) {
+            adder.accept(next, element);
+        }
+    }
+
+    /**
+     * 구독을 확인한 뒤 Redis 에서 복제본을 새로 만든다.
+     * @param loader 새 복제본을 채우고 원소 수를 돌려준다
+     * @return 교체했으면 원소 수, 구독 불가/실패로 교체하지 못했으면 -1
+     */
+    public long reload(ToLongFunction<S> loader) {
+        // 구독이 끊긴 동안의 등록은 전파되지 않으므로 복제본을 쓰지 않고 Redis 로 조회한다
+        if (!redisSubscriptionManager.ensureListening()) {
+            this.current = null;
+            log.warn("[{}] pub/sub unavailable, fall back to Redis lookups", name);
+            return -1;
+        }
+        S next = factory.get();
+        this.reloading = next;
+        try {
+            long count = loader.applyAsLong(next);
+            this.current = next;
+            log.info("[{}] reloaded: {} entries", name, count);
+            return count;
+        } catch (Exception e) {
+            log.warn("[{}] reload failed, keep previous: {}", name, e.getMessage());
+            return -1;
+        } finally {
+            this.reloading = null;
+        }
+    }
+
+    /**
+     * 다른 파드(또는 자신)가 발행한 등록 메시지
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String element = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            add(element);
+        } catch (IllegalArgumentException e) {
+            log.warn("[{}] invalid message: {}", name, element);
+        }
+    }
+
+    /**
+     * 구독이 (다시) 맺어짐. 이미 복제본이 있다면 재연결이므로 끊긴 동안의 등록이 빠져 있을 수 있다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (this.current != null) {
+            this.current = null;
+            log.warn("[{}] pub/sub resubscribed, fall back to Redis lookups until next reload", name);
+        }
+    }
+}
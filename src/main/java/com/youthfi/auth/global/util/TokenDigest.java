@@ -0,0 +1,42 @@
+package com.youthfi.auth.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 캐시/Redis 키로 쓰는 고정 길이 다이제스트 (SHA-256, Base64 URL 43자)
+ */
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private TokenDigest() {
+    }
+
+    public static String of(String token) {
+        return encode(bytes(token));
+    }
+
+    public static byte[] bytes(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(byte[] digest) {
+        return ENCODER.encodeToString(digest);
+    }
+
+    public static byte[] decode(String digest) {
+        return DECODER.decode(digest);
+    }
+}
@@ -0,0 +1,7 @@
+-- 토큰 블랙리스트 등록: 블랙리스트 키 + 만료 시각 인덱스 등록 + 다른 파드 전파를 한 번에 처리
+-- KEYS[1] 블랙리스트 키, KEYS[2] 블랙리스트 인덱스 (다이제스트 → 만료 시각 ms)
+-- ARGV[1] TTL (ms), ARGV[2] 현재 시각 (ms), ARGV[3] 토큰 다이제스트, ARGV[4] 블랙리스트 채널
+redis.call('SET', KEYS[1], '1', 'PX', ARGV[1])
+redis.call('ZADD', KEYS[2], tonumber(ARGV[2]) + tonumber(ARGV[1]), ARGV[3])
+redis.call('PUBLISH', ARGV[4], ARGV[3])
+return 1
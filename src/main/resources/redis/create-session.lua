@@ -0,0 +1,27 @@
+-- 로그인 세션 등록: 만료된 세션을 정리하고, 최대 개수를 넘으면 가장 오래 사용하지 않은 세션부터 제거
+-- 세션 수는 max-per-user 로 제한되므로 HGETALL 도 상수 크기다.
+-- KEYS[1] 세션 해시 (세션 ID → "다이제스트|만료시각|마지막사용시각|생성시각|기기")
+-- ARGV[1] 세션 ID, ARGV[2] 세션 값, ARGV[3] 현재 시각 (ms), ARGV[4] 최대 세션 수, ARGV[5] 세션 TTL (ms)
+-- 반환: 제거한 세션 수
+local now = tonumber(ARGV[3])
+local entries = redis.call('HGETALL', KEYS[1])
+local live = {}
+for i = 1, #entries, 2 do
+    local expiresAt, lastUsedAt = string.match(entries[i + 1], '^[^|]*|(%d+)|(%d+)|')
+    if not expiresAt or tonumber(expiresAt) <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+    elseif entries[i] ~= ARGV[1] then
+        table.insert(live, { entries[i], tonumber(lastUsedAt) })
+    end
+end
+table.sort(live, function(a, b) return a[2] < b[2] end)
+local evicted = 0
+for i = 1, #live - tonumber(ARGV[4]) + 1 do
+    redis.call('HDEL', KEYS[1], live[i][1])
+    evicted = evicted + 1
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[5]) then
+    redis.call('PEXPIRE', KEYS[1], ARGV[5])
+end
+return evicted
@@ -0,0 +1,6 @@
+-- 인증 코드 저장 + 발송 메시지 등록을 한 번에 처리 (코드만 저장되고 메일이 빠지는 경우 방지)
+-- KEYS[1] 인증 코드 키, KEYS[2] 메일 아웃박스 스트림
+-- ARGV[1] 인증 코드, ARGV[2] 코드 TTL (초), ARGV[3] 스트림 최대 길이 (근사), ARGV[4] 수신 이메일, ARGV[5] 메일 언어 태그
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+return redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[3], '*',
+        'type', 'verification', 'to', ARGV[4], 'code', ARGV[1], 'locale', ARGV[5])
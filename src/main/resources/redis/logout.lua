@@ -0,0 +1,17 @@
+-- 로그아웃: 세션 삭제 + 화이트리스트 삭제 + 액세스 토큰 블랙리스트 등록을 한 번에 처리
+-- KEYS[1]   블랙리스트 키, KEYS[2] 세션 해시, KEYS[3] 블랙리스트 인덱스
+-- KEYS[4..] 삭제할 키 (이전 형식 리프레시 토큰, 화이트리스트)
+-- ARGV[1]   블랙리스트 TTL (ms, 0 이하면 이미 만료된 토큰이므로 등록하지 않음)
+-- ARGV[2]   블랙리스트 채널, ARGV[3] 토큰 다이제스트, ARGV[4] 세션 ID (없으면 빈 문자열), ARGV[5] 현재 시각 (ms)
+if ARGV[4] ~= '' then
+    redis.call('HDEL', KEYS[2], ARGV[4])
+end
+if #KEYS > 3 then
+    redis.call('DEL', unpack(KEYS, 4))
+end
+if tonumber(ARGV[1]) > 0 then
+    redis.call('SET', KEYS[1], '1', 'PX', ARGV[1])
+    redis.call('ZADD', KEYS[3], tonumber(ARGV[5]) + tonumber(ARGV[1]), ARGV[3])
+    redis.call('PUBLISH', ARGV[2], ARGV[3])
+end
+return 1
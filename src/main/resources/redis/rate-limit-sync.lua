@@ -0,0 +1,11 @@
+-- 파드별 사용량을 윈도우 카운터에 합산하고 전체 파드 합계를 돌려준다
+-- KEYS[i] 윈도우 카운터 키, ARGV[2i-1] 이번 주기에 사용한 횟수, ARGV[2i] 윈도우 남은 시간 (ms)
+local counts = {}
+for i, key in ipairs(KEYS) do
+    local count = redis.call('INCRBY', key, ARGV[2 * i - 1])
+    if count == tonumber(ARGV[2 * i - 1]) then
+        redis.call('PEXPIRE', key, ARGV[2 * i])
+    end
+    counts[i] = count
+end
+return counts
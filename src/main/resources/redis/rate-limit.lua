@@ -0,0 +1,33 @@
+-- 여러 고정 윈도우 한도를 한 번에 확인하고, 모두 통과하면 모두 1씩 소진 (확인과 소진 사이에 끼어드는 요청 없음)
+-- KEYS[i] 카운터 키, ARGV[2i-1] 한도, ARGV[2i] 윈도우 (ms, 첫 소진 시점부터)
+-- 반환: {허용 여부(1/0), retry-after (ms), 거부한 규칙 번호 (1부터, 허용이면 0), 규칙별 남은 횟수...}
+local counts = {}
+local rejected, retryAfter = 0, 0
+for i, key in ipairs(KEYS) do
+    local limit = tonumber(ARGV[2 * i - 1])
+    local value = redis.call('GET', key)
+    -- 숫자가 아닌 값(이전 형식의 쿨다운 플래그)은 한도를 다 쓴 것으로 본다
+    local count = value and (tonumber(value) or limit) or 0
+    counts[i] = count
+    if rejected == 0 and count >= limit then
+        local ttl = redis.call('PTTL', key)
+        if ttl < 0 then
+            redis.call('PEXPIRE', key, ARGV[2 * i])
+            ttl = tonumber(ARGV[2 * i])
+        end
+        rejected, retryAfter = i, ttl
+    end
+end
+
+local result = {rejected == 0 and 1 or 0, retryAfter, rejected}
+for i, key in ipairs(KEYS) do
+    local left = tonumber(ARGV[2 * i - 1]) - counts[i]
+    if rejected == 0 then
+        if redis.call('INCR', key) == 1 then
+            redis.call('PEXPIRE', key, ARGV[2 * i])
+        end
+        left = left - 1
+    end
+    result[3 + i] = math.max(0, left)
+end
+return result
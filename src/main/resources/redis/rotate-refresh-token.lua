@@ -0,0 +1,58 @@
+-- 리프레시 토큰 교체: 세션에 저장된 다이제스트가 요청 토큰과 같을 때만 새 토큰으로 바꾸고 이전 토큰을 블랙리스트에 등록
+-- 교체 직후 유예 시간 동안은 같은 이전 토큰이 다시 와도(탭 2개, 응답 유실 후 재시도) 이번 요청의 새 토큰으로 세션을 다시 교체한다.
+-- (유예 키에는 마지막으로 발급한 토큰의 다이제스트만 두고 원문 토큰은 저장하지 않는다. 마지막 응답의 토큰만 유효)
+-- 유예 시간이 지난 뒤 이미 교체된(블랙리스트에 있는) 토큰이 오면 재사용으로 보고 해당 세션(토큰 패밀리)을 폐기한다.
+-- 세션 도입 전 형식(사용자당 단일 키)의 토큰은 일치하면 세션 해시로 옮긴다.
+-- KEYS[1] 세션 해시, KEYS[2] 이전 토큰의 블랙리스트 키, KEYS[3] 이전 형식 리프레시 토큰 키, KEYS[4] 이전 토큰의 유예 키
+-- KEYS[5] 블랙리스트 인덱스 (다이제스트 → 만료 시각 ms)
+-- ARGV[1] 세션 ID, ARGV[2] 이전 토큰 다이제스트, ARGV[3] 이전 토큰, ARGV[4] 새 토큰 다이제스트
+-- ARGV[5] 새 토큰 만료 시각 (ms), ARGV[6] 현재 시각 (ms), ARGV[7] 새 토큰 TTL (ms)
+-- ARGV[8] 블랙리스트 TTL (ms), ARGV[9] 블랙리스트 채널, ARGV[10] 유예 시간 (ms)
+-- 반환: {1} 교체 성공, {2} 유예 시간 안의 중복 요청 (새 토큰으로 다시 교체), {0} 불일치 (만료/로그아웃/세션 제거), {-1} 재사용 감지 (세션 폐기)
+local createdAt, device
+local duplicate = false
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if current then
+    local digest, expiresAt, _, created, dev = string.match(current, '^([^|]*)|(%d+)|(%d+)|(%d+)|(.*)$')
+    if digest == ARGV[2] and tonumber(expiresAt) > tonumber(ARGV[6]) then
+        createdAt, device = created, dev
+    elseif digest == redis.call('GET', KEYS[4]) then
+        -- 유예 시간 안: 세션이 아직 그때 발급한 토큰을 들고 있을 때만 다시 교체
+        createdAt, device, duplicate = created, dev, true
+    end
+elseif redis.call('GET', KEYS[3]) == ARGV[3] then
+    redis.call('DEL', KEYS[3])
+    createdAt, device = ARGV[6], ''
+end
+
+if createdAt then
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[4] .. '|' .. ARGV[5] .. '|' .. ARGV[6] .. '|' .. createdAt .. '|' .. device)
+    if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[7]) then
+        redis.call('PEXPIRE', KEYS[1], ARGV[7])
+    end
+    if duplicate then
+        -- 이전 토큰은 첫 교체 때 이미 블랙리스트에 등록됨. 유예 시간은 늘리지 않는다
+        redis.call('SET', KEYS[4], ARGV[4], 'KEEPTTL')
+        return {2}
+    end
+    if tonumber(ARGV[8]) > 0 then
+        redis.call('SET', KEYS[2], '1', 'PX', ARGV[8])
+        redis.call('ZADD', KEYS[5], tonumber(ARGV[6]) + tonumber(ARGV[8]), ARGV[2])
+        redis.call('PUBLISH', ARGV[9], ARGV[2])
+    end
+    if tonumber(ARGV[10]) > 0 then
+        redis.call('SET', KEYS[4], ARGV[4], 'PX', ARGV[10])
+    end
+    return {1}
+end
+
+if redis.call('EXISTS', KEYS[4]) == 1 then
+    -- 유예 시간 안이지만 세션이 이미 바뀜(로그아웃 등): 세션은 건드리지 않고 불일치로 응답
+    return {0}
+end
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('DEL', KEYS[3])
+    return {-1}
+end
+return {0}
@@ -1,6 +1,8 @@
 package com.youthfi.auth.domain.auth.application.usecase;
 
 import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -15,22 +17,29 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.youthfi.auth.domain.auth.application.dto.response.ProfileResponse;
 import com.youthfi.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.youthfi.auth.domain.auth.domain.entity.User;
-import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.Rotation;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.RotationResult;
 import com.youthfi.auth.domain.auth.domain.service.UserService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
 import com.youthfi.auth.global.exception.RestApiException;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.EXPIRED_MEMBER_JWT;
 import static com.youthfi.auth.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
 import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
+
+import io.jsonwebtoken.Jwts;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TokenReissueUseCase 테스트")
@@ -40,11 +49,14 @@ class TokenReissueUseCaseTest {
     private TokenProvider tokenProvider;
 
     @Mock
-    private RefreshTokenService refreshTokenService;
+    private AuthTokenBatchService authTokenBatchService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserStatusService userStatusService;
+
     @InjectMocks
     private TokenReissueUseCase tokenReissueUseCase;
 
@@ -53,6 +65,7 @@ class TokenReissueUseCaseTest {
     private static final String NEW_ACCESS_TOKEN = "new.access.token";
     private static final String NEW_REFRESH_TOKEN = "new.refresh.token";
     private static final Duration VALID_DURATION = Duration.ofDays(7);
+    private static final String SESSION_ID = "session-1";
 
     private User testUser;
 
@@ -65,19 +78,19 @@ class TokenReissueUseCaseTest {
                 .name("Test User")
                 .birth("1990-01-01")
                 .build();
+        lenient().when(userStatusService.isActiveUser(anyString())).thenReturn(true);
     }
 
     @Test
     @DisplayName("토큰 재발급 성공")
     void reissue_Success() {
         // given
-        when(refreshTokenService.isExist(VALID_REFRESH_TOKEN, VALID_USER_ID)).thenReturn(true);
-        doNothing().when(refreshTokenService).deleteRefreshToken(VALID_USER_ID);
-        when(userService.findUser(VALID_USER_ID)).thenReturn(testUser);
-        when(tokenProvider.createAccessToken(VALID_USER_ID)).thenReturn(NEW_ACCESS_TOKEN);
-        when(tokenProvider.createRefreshToken(VALID_USER_ID)).thenReturn(NEW_REFRESH_TOKEN);
-        when(tokenProvider.getRemainingDuration(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(VALID_DURATION));
-        doNothing().when(refreshTokenService).saveRefreshToken(eq(VALID_USER_ID), eq(NEW_REFRESH_TOKEN), eq(VALID_DURATION));
+        when(userService.findProfile(VALID_USER_ID)).thenReturn(ProfileResponse.create(testUser));
+        when(tokenProvider.verify(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(refreshToken(VALID_REFRESH_TOKEN)));
+        when(tokenProvider.createAccessToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_ACCESS_TOKEN);
+        when(tokenProvider.createRefreshToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_REFRESH_TOKEN);
+        when(authTokenBatchService.rotateRefreshToken(eq(VALID_USER_ID), eq(SESSION_ID), eq(VALID_REFRESH_TOKEN), eq(NEW_REFRESH_TOKEN), any(Duration.class), any(Duration.class)))
+                .thenReturn(new Rotation(RotationResult.ROTATED, NEW_REFRESH_TOKEN));
 
         // when
         TokenReissueResponse response = tokenReissueUseCase.reissue(VALID_REFRESH_TOKEN, VALID_USER_ID);
@@ -87,20 +100,24 @@ class TokenReissueUseCaseTest {
         assertEquals(NEW_ACCESS_TOKEN, response.accessToken());
         assertEquals(NEW_REFRESH_TOKEN, response.refreshToken());
 
-        verify(refreshTokenService, times(1)).isExist(VALID_REFRESH_TOKEN, VALID_USER_ID);
-        verify(refreshTokenService, times(1)).deleteRefreshToken(VALID_USER_ID);
-        verify(userService, times(1)).findUser(VALID_USER_ID);
-        verify(tokenProvider, times(1)).createAccessToken(VALID_USER_ID);
-        verify(tokenProvider, times(1)).createRefreshToken(VALID_USER_ID);
-        verify(tokenProvider, times(1)).getRemainingDuration(VALID_REFRESH_TOKEN);
-        verify(refreshTokenService, times(1)).saveRefreshToken(VALID_USER_ID, NEW_REFRESH_TOKEN, VALID_DURATION);
+        verify(userService, times(1)).findProfile(VALID_USER_ID);
+        verify(tokenProvider, times(1)).createAccessToken(VALID_USER_ID, SESSION_ID);
+        verify(tokenProvider, times(1)).createRefreshToken(VALID_USER_ID, SESSION_ID);
+        verify(tokenProvider, times(1)).verify(VALID_REFRESH_TOKEN);
+        verify(authTokenBatchService, times(1))
+                .rotateRefreshToken(eq(VALID_USER_ID), eq(SESSION_ID), eq(VALID_REFRESH_TOKEN), eq(NEW_REFRESH_TOKEN), any(Duration.class), any(Duration.class));
     }
 
     @Test
     @DisplayName("리프레시 토큰이 존재하지 않을 때 INVALID_REFRESH_TOKEN 예외 발생")
     void reissue_RefreshTokenNotExist_ThrowsException() {
         // given
-        when(refreshTokenService.isExist(VALID_REFRESH_TOKEN, VALID_USER_ID)).thenReturn(false);
+        when(userService.findProfile(VALID_USER_ID)).thenReturn(ProfileResponse.create(testUser));
+        when(tokenProvider.verify(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(refreshToken(VALID_REFRESH_TOKEN)));
+        when(tokenProvider.createAccessToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_ACCESS_TOKEN);
+        when(tokenProvider.createRefreshToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_REFRESH_TOKEN);
+        when(authTokenBatchService.rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(Duration.class), any(Duration.class)))
+                .thenReturn(new Rotation(RotationResult.MISMATCH, null));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -108,46 +125,88 @@ class TokenReissueUseCaseTest {
         });
 
         assertEquals(INVALID_REFRESH_TOKEN.getCode(), exception.getErrorCode());
-        verify(refreshTokenService, times(1)).isExist(VALID_REFRESH_TOKEN, VALID_USER_ID);
-        verify(refreshTokenService, never()).deleteRefreshToken(anyString());
-        verify(userService, never()).findUser(anyString());
-        verify(tokenProvider, never()).createAccessToken(anyString());
-        verify(tokenProvider, never()).createRefreshToken(anyString());
-        verify(tokenProvider, never()).getRemainingDuration(anyString());
-        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), any(Duration.class));
+        verify(authTokenBatchService, times(1))
+                .rotateRefreshToken(eq(VALID_USER_ID), eq(SESSION_ID), eq(VALID_REFRESH_TOKEN), eq(NEW_REFRESH_TOKEN), any(Duration.class), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레시 토큰 재사용 시 INVALID_REFRESH_TOKEN 예외 발생")
+    void reissue_RefreshTokenReused_ThrowsException() {
+        // given
+        when(userService.findProfile(VALID_USER_ID)).thenReturn(ProfileResponse.create(testUser));
+        when(tokenProvider.verify(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(refreshToken(VALID_REFRESH_TOKEN)));
+        when(tokenProvider.createAccessToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_ACCESS_TOKEN);
+        when(tokenProvider.createRefreshToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_REFRESH_TOKEN);
+        when(authTokenBatchService.rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(Duration.class), any(Duration.class)))
+                .thenReturn(new Rotation(RotationResult.REUSED, null));
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () -> {
+            tokenReissueUseCase.reissue(VALID_REFRESH_TOKEN, VALID_USER_ID);
+        });
+
+        assertEquals(INVALID_REFRESH_TOKEN.getCode(), exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("유예 시간 안의 중복 재발급 - 다시 교체한 새 리프레시 토큰 반환")
+    void reissue_AlreadyRotated_ReturnsNewRefreshToken() {
+        // given
+        when(userService.findProfile(VALID_USER_ID)).thenReturn(ProfileResponse.create(testUser));
+        when(tokenProvider.verify(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(refreshToken(VALID_REFRESH_TOKEN)));
+        when(tokenProvider.createAccessToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_ACCESS_TOKEN);
+        when(tokenProvider.createRefreshToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_REFRESH_TOKEN);
+        when(authTokenBatchService.rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(Duration.class), any(Duration.class)))
+                .thenReturn(new Rotation(RotationResult.ALREADY_ROTATED, NEW_REFRESH_TOKEN));
+
+        // when
+        TokenReissueResponse response = tokenReissueUseCase.reissue(VALID_REFRESH_TOKEN, VALID_USER_ID);
+
+        // then
+        assertEquals(NEW_ACCESS_TOKEN, response.accessToken());
+        assertEquals(NEW_REFRESH_TOKEN, response.refreshToken());
     }
 
     @Test
     @DisplayName("사용자를 찾을 수 없을 때 예외 발생")
     void reissue_UserNotFound_ThrowsException() {
         // given
-        when(refreshTokenService.isExist(VALID_REFRESH_TOKEN, VALID_USER_ID)).thenReturn(true);
-        doNothing().when(refreshTokenService).deleteRefreshToken(VALID_USER_ID);
         doThrow(new RuntimeException("사용자를 찾을 수 없습니다"))
-                .when(userService).findUser(VALID_USER_ID);
+                .when(userService).findProfile(VALID_USER_ID);
 
         // when & then
         assertThrows(RuntimeException.class, () -> {
             tokenReissueUseCase.reissue(VALID_REFRESH_TOKEN, VALID_USER_ID);
         });
 
-        verify(refreshTokenService, times(1)).isExist(VALID_REFRESH_TOKEN, VALID_USER_ID);
-        verify(refreshTokenService, times(1)).deleteRefreshToken(VALID_USER_ID);
-        verify(userService, times(1)).findUser(VALID_USER_ID);
-        verify(tokenProvider, never()).createAccessToken(anyString());
-        verify(tokenProvider, never()).createRefreshToken(anyString());
-        verify(tokenProvider, never()).getRemainingDuration(anyString());
-        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), any(Duration.class));
+        verify(userService, times(1)).findProfile(VALID_USER_ID);
+        verify(tokenProvider, never()).createAccessToken(anyString(), anyString());
+        verify(tokenProvider, never()).createRefreshToken(anyString(), anyString());
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자 - 프로필 캐시가 남아 있어도 INVALID_REFRESH_TOKEN 예외 발생")
+    void reissue_DeletedUser_ThrowsException() {
+        // given
+        when(userStatusService.isActiveUser(VALID_USER_ID)).thenReturn(false);
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () -> {
+            tokenReissueUseCase.reissue(VALID_REFRESH_TOKEN, VALID_USER_ID);
+        });
+
+        assertEquals(INVALID_REFRESH_TOKEN.getCode(), exception.getErrorCode());
+        verify(userService, never()).findProfile(anyString());
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
     }
 
     @Test
     @DisplayName("리프레시 토큰 만료 시간을 가져올 수 없을 때 EXPIRED_MEMBER_JWT 예외 발생")
     void reissue_ExpiredToken_ThrowsException() {
         // given
-        when(refreshTokenService.isExist(VALID_REFRESH_TOKEN, VALID_USER_ID)).thenReturn(true);
-        doNothing().when(refreshTokenService).deleteRefreshToken(VALID_USER_ID);
-        when(userService.findUser(VALID_USER_ID)).thenReturn(testUser);
-        when(tokenProvider.getRemainingDuration(VALID_REFRESH_TOKEN)).thenReturn(Optional.empty());
+        when(userService.findProfile(VALID_USER_ID)).thenReturn(ProfileResponse.create(testUser));
+        when(tokenProvider.verify(VALID_REFRESH_TOKEN)).thenReturn(Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -155,40 +214,30 @@ class TokenReissueUseCaseTest {
         });
 
         assertEquals(EXPIRED_MEMBER_JWT.getCode(), exception.getErrorCode());
-        verify(refreshTokenService, times(1)).isExist(VALID_REFRESH_TOKEN, VALID_USER_ID);
-        verify(refreshTokenService, times(1)).deleteRefreshToken(VALID_USER_ID);
-        verify(userService, times(1)).findUser(VALID_USER_ID);
-        verify(tokenProvider, times(1)).createAccessToken(VALID_USER_ID);
-        verify(tokenProvider, times(1)).createRefreshToken(VALID_USER_ID);
-        verify(tokenProvider, times(1)).getRemainingDuration(VALID_REFRESH_TOKEN);
-        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), any(Duration.class));
+        verify(tokenProvider, times(1)).verify(VALID_REFRESH_TOKEN);
+        verify(tokenProvider, never()).createAccessToken(anyString(), anyString());
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
     }
 
     @Test
-    @DisplayName("새 토큰 저장 실패 시 예외 발생")
-    void reissue_SaveTokenFailed_ThrowsException() {
+    @DisplayName("토큰 교체 실패 시 예외 발생")
+    void reissue_RotateFailed_ThrowsException() {
         // given
-        when(refreshTokenService.isExist(VALID_REFRESH_TOKEN, VALID_USER_ID)).thenReturn(true);
-        doNothing().when(refreshTokenService).deleteRefreshToken(VALID_USER_ID);
-        when(userService.findUser(VALID_USER_ID)).thenReturn(testUser);
-        when(tokenProvider.createAccessToken(VALID_USER_ID)).thenReturn(NEW_ACCESS_TOKEN);
-        when(tokenProvider.createRefreshToken(VALID_USER_ID)).thenReturn(NEW_REFRESH_TOKEN);
-        when(tokenProvider.getRemainingDuration(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(VALID_DURATION));
+        when(userService.findProfile(VALID_USER_ID)).thenReturn(ProfileResponse.create(testUser));
+        when(tokenProvider.verify(VALID_REFRESH_TOKEN)).thenReturn(Optional.of(refreshToken(VALID_REFRESH_TOKEN)));
+        when(tokenProvider.createAccessToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_ACCESS_TOKEN);
+        when(tokenProvider.createRefreshToken(VALID_USER_ID, SESSION_ID)).thenReturn(NEW_REFRESH_TOKEN);
         doThrow(new RuntimeException("토큰 저장 실패"))
-                .when(refreshTokenService).saveRefreshToken(eq(VALID_USER_ID), eq(NEW_REFRESH_TOKEN), eq(VALID_DURATION));
+                .when(authTokenBatchService).rotateRefreshToken(eq(VALID_USER_ID), eq(SESSION_ID), eq(VALID_REFRESH_TOKEN), eq(NEW_REFRESH_TOKEN),
+                        any(Duration.class), any(Duration.class));
 
         // when & then
         assertThrows(RuntimeException.class, () -> {
             tokenReissueUseCase.reissue(VALID_REFRESH_TOKEN, VALID_USER_ID);
         });
 
-        verify(refreshTokenService, times(1)).isExist(VALID_REFRESH_TOKEN, VALID_USER_ID);
-        verify(refreshTokenService, times(1)).deleteRefreshToken(VALID_USER_ID);
-        verify(userService, times(1)).findUser(VALID_USER_ID);
-        verify(tokenProvider, times(1)).createAccessToken(VALID_USER_ID);
-        verify(tokenProvider, times(1)).createRefreshToken(VALID_USER_ID);
-        verify(tokenProvider, times(1)).getRemainingDuration(VALID_REFRESH_TOKEN);
-        verify(refreshTokenService, times(1)).saveRefreshToken(VALID_USER_ID, NEW_REFRESH_TOKEN, VALID_DURATION);
+        verify(authTokenBatchService, times(1))
+                .rotateRefreshToken(eq(VALID_USER_ID), eq(SESSION_ID), eq(VALID_REFRESH_TOKEN), eq(NEW_REFRESH_TOKEN), any(Duration.class), any(Duration.class));
     }
 
     @Test
@@ -202,13 +251,12 @@ class TokenReissueUseCaseTest {
 
         for (int i = 0; i < userIds.length; i++) {
             // given
-            when(refreshTokenService.isExist(refreshTokens[i], userIds[i])).thenReturn(true);
-            doNothing().when(refreshTokenService).deleteRefreshToken(userIds[i]);
-            when(userService.findUser(userIds[i])).thenReturn(testUser);
-            when(tokenProvider.createAccessToken(userIds[i])).thenReturn(accessTokens[i]);
-            when(tokenProvider.createRefreshToken(userIds[i])).thenReturn(newRefreshTokens[i]);
-            when(tokenProvider.getRemainingDuration(refreshTokens[i])).thenReturn(Optional.of(VALID_DURATION));
-            doNothing().when(refreshTokenService).saveRefreshToken(eq(userIds[i]), eq(newRefreshTokens[i]), eq(VALID_DURATION));
+            when(userService.findProfile(userIds[i])).thenReturn(ProfileResponse.create(testUser));
+            when(tokenProvider.createAccessToken(userIds[i], SESSION_ID)).thenReturn(accessTokens[i]);
+            when(tokenProvider.createRefreshToken(userIds[i], SESSION_ID)).thenReturn(newRefreshTokens[i]);
+            when(tokenProvider.verify(refreshTokens[i])).thenReturn(Optional.of(refreshToken(refreshTokens[i])));
+            when(authTokenBatchService.rotateRefreshToken(eq(userIds[i]), eq(SESSION_ID), eq(refreshTokens[i]), eq(newRefreshTokens[i]), any(Duration.class), any(Duration.class)))
+                    .thenReturn(new Rotation(RotationResult.ROTATED, newRefreshTokens[i]));
 
             // when
             TokenReissueResponse response = tokenReissueUseCase.reissue(refreshTokens[i], userIds[i]);
@@ -223,32 +271,29 @@ class TokenReissueUseCaseTest {
     @Test
     @DisplayName("빈 문자열 토큰으로 재발급 시도 시 예외 발생")
     void reissue_EmptyToken_ThrowsException() {
-        // given
-        String emptyToken = "";
-        when(refreshTokenService.isExist(emptyToken, VALID_USER_ID)).thenReturn(false);
-
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
-            tokenReissueUseCase.reissue(emptyToken, VALID_USER_ID);
+            tokenReissueUseCase.reissue("", VALID_USER_ID);
         });
 
         assertEquals(INVALID_REFRESH_TOKEN.getCode(), exception.getErrorCode());
-        verify(refreshTokenService, times(1)).isExist(emptyToken, VALID_USER_ID);
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
     }
 
     @Test
     @DisplayName("null 토큰으로 재발급 시도 시 예외 발생")
     void reissue_NullToken_ThrowsException() {
-        // given
-        String nullToken = null;
-        when(refreshTokenService.isExist(nullToken, VALID_USER_ID)).thenReturn(false);
-
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
-            tokenReissueUseCase.reissue(nullToken, VALID_USER_ID);
+            tokenReissueUseCase.reissue(null, VALID_USER_ID);
         });
 
         assertEquals(INVALID_REFRESH_TOKEN.getCode(), exception.getErrorCode());
-        verify(refreshTokenService, times(1)).isExist(nullToken, VALID_USER_ID);
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
+    }
+
+    private static VerifiedToken refreshToken(String token) {
+        Date expiration = new Date(System.currentTimeMillis() + VALID_DURATION.toMillis());
+        return new VerifiedToken(token, Jwts.claims(Map.of("sid", SESSION_ID)), VALID_USER_ID, "RefreshToken", expiration);
     }
 }
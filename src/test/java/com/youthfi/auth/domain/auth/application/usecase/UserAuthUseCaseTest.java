@@ -1,6 +1,7 @@
 package com.youthfi.auth.domain.auth.application.usecase;
 
 import java.time.Duration;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -12,6 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.never;
@@ -27,15 +31,22 @@ import com.youthfi.auth.domain.auth.application.dto.request.TokenReissueRequest;
 import com.youthfi.auth.domain.auth.application.dto.response.LoginResponse;
 import com.youthfi.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.youthfi.auth.domain.auth.domain.entity.User;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService;
+import com.youthfi.auth.domain.auth.domain.service.LoginCredentialCache;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.Rotation;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.RotationResult;
 import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
 import com.youthfi.auth.domain.auth.domain.service.TokenBlacklistService;
-import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
 import com.youthfi.auth.domain.auth.domain.service.UserService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
 import com.youthfi.auth.domain.email.domain.service.EmailVerificationService;
 import com.youthfi.auth.global.exception.RestApiException;
 import com.youthfi.auth.global.exception.code.status.AuthErrorStatus;
+import com.youthfi.auth.global.exception.code.status.GlobalErrorStatus;
 import com.youthfi.auth.global.security.TokenProvider;
+import com.youthfi.auth.global.security.VerifiedToken;
 
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.HttpServletRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,18 +65,27 @@ class UserAuthUseCaseTest {
     @Mock
     private RefreshTokenService refreshTokenService;
     
-    @Mock
-    private TokenWhitelistService tokenWhitelistService;
-    
     @Mock
     private TokenBlacklistService tokenBlacklistService;
     
     @Mock
     private EmailVerificationService emailVerificationService;
+
+    @Mock
+    private UserStatusService userStatusService;
+
+    @Mock
+    private AuthTokenBatchService authTokenBatchService;
+
+    @Mock
+    private LoginCredentialCache loginCredentialCache;
     
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
+    private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
+
     @InjectMocks
     private UserAuthUseCase userAuthUseCase;
 
@@ -107,16 +127,12 @@ class UserAuthUseCaseTest {
     void signUp_Success() {
         // given
         when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(true);
-        when(userService.isAlreadyRegistered(validSignUpRequest.email())).thenReturn(false);
-        when(userService.isUserIdAlreadyRegistered(validSignUpRequest.userId())).thenReturn(false);
 
         // when
         assertDoesNotThrow(() -> userAuthUseCase.signUp(validSignUpRequest));
 
         // then
         verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, times(1)).isAlreadyRegistered(validSignUpRequest.email());
-        verify(userService, times(1)).isUserIdAlreadyRegistered(validSignUpRequest.userId());
         verify(userService, times(1)).save(validSignUpRequest);
         verify(emailVerificationService, times(1)).removeEmailVerification(validSignUpRequest.email());
     }
@@ -134,8 +150,6 @@ class UserAuthUseCaseTest {
 
         assertEquals("EMAIL400", exception.getErrorCode().getCode());
         verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, never()).isAlreadyRegistered(anyString());
-        verify(userService, never()).isUserIdAlreadyRegistered(anyString());
         verify(userService, never()).save(any());
     }
 
@@ -144,7 +158,7 @@ class UserAuthUseCaseTest {
     void signUp_AlreadyRegisteredEmail_ThrowsException() {
         // given
         when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(true);
-        when(userService.isAlreadyRegistered(validSignUpRequest.email())).thenReturn(true);
+        when(userService.save(validSignUpRequest)).thenThrow(new RestApiException(AuthErrorStatus.ALREADY_REGISTERED_EMAIL));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -153,9 +167,7 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH009", exception.getErrorCode().getCode());
         verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, times(1)).isAlreadyRegistered(validSignUpRequest.email());
-        verify(userService, never()).isUserIdAlreadyRegistered(anyString());
-        verify(userService, never()).save(any());
+        verify(emailVerificationService, never()).removeEmailVerification(anyString());
     }
 
     @Test
@@ -163,8 +175,7 @@ class UserAuthUseCaseTest {
     void signUp_AlreadyRegisteredUserId_ThrowsException() {
         // given
         when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(true);
-        when(userService.isAlreadyRegistered(validSignUpRequest.email())).thenReturn(false);
-        when(userService.isUserIdAlreadyRegistered(validSignUpRequest.userId())).thenReturn(true);
+        when(userService.save(validSignUpRequest)).thenThrow(new RestApiException(AuthErrorStatus.ALREADY_REGISTERED_USER_ID));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -173,9 +184,7 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH010", exception.getErrorCode().getCode());
         verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, times(1)).isAlreadyRegistered(validSignUpRequest.email());
-        verify(userService, times(1)).isUserIdAlreadyRegistered(validSignUpRequest.userId());
-        verify(userService, never()).save(any());
+        verify(emailVerificationService, never()).removeEmailVerification(anyString());
     }
 
     @Test
@@ -184,12 +193,12 @@ class UserAuthUseCaseTest {
         // given
         when(userService.findByUserId(validLoginRequest.userId())).thenReturn(testUser);
         when(passwordEncoder.matches(validLoginRequest.password(), testUser.getPassword())).thenReturn(true);
-        when(tokenProvider.createAccessToken(testUser.getUserId())).thenReturn("access.token");
-        when(tokenProvider.createRefreshToken(testUser.getUserId())).thenReturn("refresh.token");
+        when(tokenProvider.createAccessToken(eq(testUser.getUserId()), anyString())).thenReturn("access.token");
+        when(tokenProvider.createRefreshToken(eq(testUser.getUserId()), anyString())).thenReturn("refresh.token");
         when(tokenProvider.getRemainingDuration("refresh.token")).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
 
         // when
-        LoginResponse response = userAuthUseCase.login(validLoginRequest);
+        LoginResponse response = userAuthUseCase.login(validLoginRequest, "Mozilla/5.0");
 
         // then
         assertNotNull(response);
@@ -197,9 +206,80 @@ class UserAuthUseCaseTest {
         assertEquals("refresh.token", response.refreshToken());
         verify(userService, times(1)).findByUserId(validLoginRequest.userId());
         verify(passwordEncoder, times(1)).matches(validLoginRequest.password(), testUser.getPassword());
-        verify(tokenProvider, times(1)).createAccessToken(testUser.getUserId());
-        verify(tokenProvider, times(1)).createRefreshToken(testUser.getUserId());
-        verify(refreshTokenService, times(1)).saveRefreshToken(testUser.getUserId(), "refresh.token", Duration.ofDays(14));
+        // 액세스/리프레시 토큰과 세션이 같은 세션 ID 를 사용
+        ArgumentCaptor<String> sessionId = ArgumentCaptor.forClass(String.class);
+        verify(tokenProvider, times(1)).createAccessToken(eq(testUser.getUserId()), sessionId.capture());
+        verify(tokenProvider, times(1)).createRefreshToken(testUser.getUserId(), sessionId.getValue());
+        verify(refreshTokenService, times(1)).saveRefreshToken(testUser.getUserId(), sessionId.getValue(),
+                "refresh.token", Duration.ofDays(14), "Mozilla/5.0");
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(loginCredentialCache, times(1)).put(testUser.getUserId(), validLoginRequest.password());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 직전에 성공한 자격 증명은 BCrypt 검증 생략")
+    void login_CachedCredential_SkipsPasswordCheck() {
+        // given
+        when(loginCredentialCache.matches(validLoginRequest.userId(), validLoginRequest.password())).thenReturn(true);
+        when(userStatusService.isActiveUser(validLoginRequest.userId())).thenReturn(true);
+        when(tokenProvider.createRefreshToken(eq(validLoginRequest.userId()), anyString())).thenReturn("refresh.token");
+
+        // when
+        userAuthUseCase.login(validLoginRequest);
+
+        // then
+        verify(userService, never()).findByUserId(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(refreshTokenService, times(1)).saveRefreshToken(eq(validLoginRequest.userId()), anyString(),
+                eq("refresh.token"), any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 - 정지된 사용자는 캐시가 있어도 다시 검증")
+    void login_CachedCredential_RevokedUser_ChecksPassword() {
+        // given
+        when(loginCredentialCache.matches(validLoginRequest.userId(), validLoginRequest.password())).thenReturn(true);
+        when(userStatusService.isActiveUser(validLoginRequest.userId())).thenReturn(false);
+        when(userService.findByUserId(validLoginRequest.userId())).thenReturn(testUser);
+        when(passwordEncoder.matches(validLoginRequest.password(), testUser.getPassword())).thenReturn(false);
+
+        // when & then
+        assertThrows(RestApiException.class, () -> userAuthUseCase.login(validLoginRequest));
+        verify(passwordEncoder, times(1)).matches(validLoginRequest.password(), testUser.getPassword());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 이전 형식 해시는 다시 해시")
+    void login_OutdatedHash_Rehashes() {
+        // given
+        when(userService.findByUserId(validLoginRequest.userId())).thenReturn(testUser);
+        when(passwordEncoder.matches(validLoginRequest.password(), "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(validLoginRequest.password())).thenReturn("{bcrypt}rehashed");
+        when(tokenProvider.createRefreshToken(eq(testUser.getUserId()), anyString())).thenReturn("refresh.token");
+
+        // when
+        userAuthUseCase.login(validLoginRequest);
+
+        // then
+        assertEquals("{bcrypt}rehashed", testUser.getPassword());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해시 풀 포화 시 다시 해시는 건너뜀")
+    void login_OutdatedHash_PoolSaturated_SkipsRehash() {
+        // given
+        when(userService.findByUserId(validLoginRequest.userId())).thenReturn(testUser);
+        when(passwordEncoder.matches(validLoginRequest.password(), "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(validLoginRequest.password())).thenThrow(new RestApiException(GlobalErrorStatus._TOO_MANY_REQUEST));
+        when(tokenProvider.createRefreshToken(eq(testUser.getUserId()), anyString())).thenReturn("refresh.token");
+
+        // when
+        assertDoesNotThrow(() -> userAuthUseCase.login(validLoginRequest));
+
+        // then
+        assertEquals("encodedPassword", testUser.getPassword());
     }
 
     @Test
@@ -217,9 +297,10 @@ class UserAuthUseCaseTest {
         assertEquals("AUTH008", exception.getErrorCode().getCode());
         verify(userService, times(1)).findByUserId(validLoginRequest.userId());
         verify(passwordEncoder, times(1)).matches(validLoginRequest.password(), testUser.getPassword());
-        verify(tokenProvider, never()).createAccessToken(anyString());
-        verify(tokenProvider, never()).createRefreshToken(anyString());
-        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), any());
+        verify(tokenProvider, never()).createAccessToken(anyString(), anyString());
+        verify(tokenProvider, never()).createRefreshToken(anyString(), anyString());
+        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), anyString(), any(), any());
+        verify(loginCredentialCache, never()).put(anyString(), anyString());
     }
 
     @Test
@@ -227,19 +308,16 @@ class UserAuthUseCaseTest {
     void logout_Success() {
         // given
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("access.token"));
-        when(tokenProvider.getId("access.token")).thenReturn(java.util.Optional.of("testuser"));
-        when(tokenProvider.getRemainingDuration("access.token")).thenReturn(java.util.Optional.of(Duration.ofHours(1)));
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, "access.token"))
+                .thenReturn(java.util.Optional.of(verifiedToken("access.token", "testuser", ACCESS_TOKEN_SUBJECT)));
 
         // when
         assertDoesNotThrow(() -> userAuthUseCase.logout(httpServletRequest));
 
         // then
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).getId("access.token");
-        verify(tokenProvider, times(1)).getRemainingDuration("access.token");
-        verify(refreshTokenService, times(1)).deleteRefreshToken("testuser");
-        verify(tokenWhitelistService, times(1)).deleteWhitelistToken("access.token");
-        verify(tokenBlacklistService, times(1)).blacklist("access.token", Duration.ofHours(1));
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, "access.token");
+        verify(authTokenBatchService, times(1)).logout(eq("testuser"), isNull(), eq("access.token"), any(Duration.class));
     }
 
     @Test
@@ -255,8 +333,8 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH001", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, never()).getId(anyString());
-        verify(refreshTokenService, never()).deleteRefreshToken(anyString());
+        verify(tokenProvider, never()).resolveVerifiedToken(any(), anyString());
+        verify(authTokenBatchService, never()).logout(anyString(), any(), anyString(), any());
     }
 
     @Test
@@ -270,16 +348,17 @@ class UserAuthUseCaseTest {
     }
 
     @Test
-    @DisplayName("토큰 재발급 성공")
+    @DisplayName("토큰 재발급 성공 - 같은 세션 유지")
     void reissueToken_Success() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(true);
-        when(tokenProvider.getId(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId("testuser")).thenReturn(validTokenReissueRequest.refreshToken());
-        when(tokenProvider.getRemainingDuration(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(Duration.ofDays(7)));
-        when(tokenProvider.createAccessToken("testuser")).thenReturn("new.access.token");
-        when(tokenProvider.createRefreshToken("testuser")).thenReturn("new.refresh.token");
+        String refreshToken = validTokenReissueRequest.refreshToken();
+        when(tokenProvider.verify(refreshToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(refreshToken, "testuser", REFRESH_TOKEN_SUBJECT, "session-1")));
+        when(tokenProvider.createAccessToken("testuser", "session-1")).thenReturn("new.access.token");
+        when(tokenProvider.createRefreshToken("testuser", "session-1")).thenReturn("new.refresh.token");
         when(tokenProvider.getRemainingDuration("new.refresh.token")).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+        when(authTokenBatchService.rotateRefreshToken(eq("testuser"), eq("session-1"), eq(refreshToken), eq("new.refresh.token"),
+                eq(Duration.ofDays(14)), any(Duration.class))).thenReturn(new Rotation(RotationResult.ROTATED, "new.refresh.token"));
 
         // when
         TokenReissueResponse response = userAuthUseCase.reissueToken(validTokenReissueRequest);
@@ -288,22 +367,42 @@ class UserAuthUseCaseTest {
         assertNotNull(response);
         assertEquals("new.access.token", response.accessToken());
         assertEquals("new.refresh.token", response.refreshToken());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).getId(validTokenReissueRequest.refreshToken());
-        verify(refreshTokenService, times(1)).findByUserId("testuser");
-        verify(tokenProvider, times(1)).getRemainingDuration(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).createAccessToken("testuser");
-        verify(tokenProvider, times(1)).createRefreshToken("testuser");
-        verify(refreshTokenService, times(1)).deleteRefreshToken("testuser");
-        verify(refreshTokenService, times(1)).saveRefreshToken("testuser", "new.refresh.token", Duration.ofDays(14));
-        verify(tokenBlacklistService, times(1)).blacklist(validTokenReissueRequest.refreshToken(), Duration.ofDays(7));
+        verify(tokenProvider, times(1)).verify(refreshToken);
+        verify(tokenProvider, never()).validateToken(anyString());
+        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), anyString(), any(), any());
+        verify(tokenBlacklistService, never()).blacklist(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - 세션 도입 전 토큰은 새 세션 ID 로 이전")
+    void reissueToken_LegacyToken_MigratesToNewSession() {
+        // given
+        String refreshToken = validTokenReissueRequest.refreshToken();
+        when(tokenProvider.verify(refreshToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(refreshToken, "testuser", REFRESH_TOKEN_SUBJECT)));
+        when(tokenProvider.createAccessToken(eq("testuser"), anyString())).thenReturn("new.access.token");
+        when(tokenProvider.createRefreshToken(eq("testuser"), anyString())).thenReturn("new.refresh.token");
+        when(tokenProvider.getRemainingDuration("new.refresh.token")).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+        when(authTokenBatchService.rotateRefreshToken(eq("testuser"), anyString(), eq(refreshToken), eq("new.refresh.token"),
+                eq(Duration.ofDays(14)), any(Duration.class))).thenReturn(new Rotation(RotationResult.ROTATED, "new.refresh.token"));
+
+        // when
+        userAuthUseCase.reissueToken(validTokenReissueRequest);
+
+        // then
+        ArgumentCaptor<String> sessionId = ArgumentCaptor.forClass(String.class);
+        verify(tokenProvider, times(1)).createRefreshToken(eq("testuser"), sessionId.capture());
+        assertNotNull(sessionId.getValue());
+        verify(tokenProvider, times(1)).createAccessToken("testuser", sessionId.getValue());
+        verify(authTokenBatchService, times(1)).rotateRefreshToken(eq("testuser"), eq(sessionId.getValue()), eq(refreshToken),
+                eq("new.refresh.token"), eq(Duration.ofDays(14)), any(Duration.class));
     }
 
     @Test
     @DisplayName("토큰 재발급 실패 - 유효하지 않은 리프레시 토큰")
     void reissueToken_InvalidRefreshToken_ThrowsException() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(false);
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -311,18 +410,23 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH007", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, never()).getId(anyString());
-        verify(refreshTokenService, never()).findByUserId(anyString());
+        verify(tokenProvider, times(1)).verify(validTokenReissueRequest.refreshToken());
+        verify(tokenProvider, never()).createAccessToken(anyString(), anyString());
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
     }
 
     @Test
-    @DisplayName("토큰 재발급 실패 - 저장된 리프레시 토큰과 불일치")
+    @DisplayName("토큰 재발급 실패 - 이미 교체된 리프레시 토큰 재사용")
     void reissueToken_MismatchedRefreshToken_ThrowsException() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(true);
-        when(tokenProvider.getId(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId("testuser")).thenReturn("different.refresh.token");
+        String refreshToken = validTokenReissueRequest.refreshToken();
+        when(tokenProvider.verify(refreshToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(refreshToken, "testuser", REFRESH_TOKEN_SUBJECT, "session-1")));
+        when(tokenProvider.createAccessToken("testuser", "session-1")).thenReturn("new.access.token");
+        when(tokenProvider.createRefreshToken("testuser", "session-1")).thenReturn("new.refresh.token");
+        when(tokenProvider.getRemainingDuration("new.refresh.token")).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+        when(authTokenBatchService.rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(new Rotation(RotationResult.REUSED, null));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -330,19 +434,17 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH007", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).getId(validTokenReissueRequest.refreshToken());
-        verify(refreshTokenService, times(1)).findByUserId("testuser");
-        verify(tokenProvider, never()).createAccessToken(anyString());
+        verify(authTokenBatchService, times(1)).rotateRefreshToken(eq("testuser"), eq("session-1"), eq(refreshToken),
+                eq("new.refresh.token"), eq(Duration.ofDays(14)), any(Duration.class));
     }
 
     @Test
-    @DisplayName("토큰 재발급 실패 - 리프레시 토큰이 저장되지 않음")
-    void reissueToken_NoStoredRefreshToken_ThrowsException() {
+    @DisplayName("토큰 재발급 실패 - 토큰에 사용자 ID 없음")
+    void reissueToken_NoUserId_ThrowsException() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(true);
-        when(tokenProvider.getId(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId("testuser")).thenReturn(null);
+        String refreshToken = validTokenReissueRequest.refreshToken();
+        when(tokenProvider.verify(refreshToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(refreshToken, null, REFRESH_TOKEN_SUBJECT)));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -350,10 +452,8 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH007", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).getId(validTokenReissueRequest.refreshToken());
-        verify(refreshTokenService, times(1)).findByUserId("testuser");
-        verify(tokenProvider, never()).createAccessToken(anyString());
+        verify(tokenProvider, never()).createAccessToken(anyString(), anyString());
+        verify(authTokenBatchService, never()).rotateRefreshToken(anyString(), anyString(), anyString(), anyString(), any(), any());
     }
 
     // ========== Nginx Verify Token 테스트 ==========
@@ -366,11 +466,10 @@ class UserAuthUseCaseTest {
         String userId = "testuser";
         
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(validAccessToken));
-        when(tokenProvider.validateToken(validAccessToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(validAccessToken)).thenReturn(true);
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, validAccessToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(validAccessToken, userId, ACCESS_TOKEN_SUBJECT)));
         when(tokenBlacklistService.isBlacklistToken(validAccessToken)).thenReturn(false);
-        when(tokenProvider.getId(validAccessToken)).thenReturn(java.util.Optional.of(userId));
-        when(userService.findByUserId(userId)).thenReturn(testUser);
+        when(userStatusService.isActiveUser(userId)).thenReturn(true);
 
         // when
         String result = userAuthUseCase.verifyToken(httpServletRequest);
@@ -378,11 +477,11 @@ class UserAuthUseCaseTest {
         // then
         assertEquals(userId, result);
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(validAccessToken);
-        verify(tokenProvider, times(1)).isAccessToken(validAccessToken);
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, validAccessToken);
+        verify(tokenProvider, never()).validateToken(anyString());
         verify(tokenBlacklistService, times(1)).isBlacklistToken(validAccessToken);
-        verify(tokenProvider, times(1)).getId(validAccessToken);
-        verify(userService, times(1)).findByUserId(userId);
+        verify(userStatusService, times(1)).isActiveUser(userId);
+        verify(userService, never()).findByUserId(anyString());
     }
 
     @Test
@@ -398,11 +497,9 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH001", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, never()).validateToken(anyString());
-        verify(tokenProvider, never()).isAccessToken(anyString());
+        verify(tokenProvider, never()).resolveVerifiedToken(any(), anyString());
         verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
-        verify(tokenProvider, never()).getId(anyString());
-        verify(userService, never()).findByUserId(anyString());
+        verify(userStatusService, never()).isActiveUser(anyString());
     }
 
     @Test
@@ -412,7 +509,7 @@ class UserAuthUseCaseTest {
         String invalidToken = "invalid.token";
         
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(invalidToken));
-        when(tokenProvider.validateToken(invalidToken)).thenReturn(false);
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, invalidToken)).thenReturn(java.util.Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -421,11 +518,9 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(invalidToken);
-        verify(tokenProvider, never()).isAccessToken(anyString());
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, invalidToken);
         verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
-        verify(tokenProvider, never()).getId(anyString());
-        verify(userService, never()).findByUserId(anyString());
+        verify(userStatusService, never()).isActiveUser(anyString());
     }
 
     @Test
@@ -435,8 +530,8 @@ class UserAuthUseCaseTest {
         String refreshToken = "refresh.token";
         
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(refreshToken));
-        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(refreshToken)).thenReturn(false);
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, refreshToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(refreshToken, "testuser", "RefreshToken")));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -445,11 +540,9 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(refreshToken);
-        verify(tokenProvider, times(1)).isAccessToken(refreshToken);
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, refreshToken);
         verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
-        verify(tokenProvider, never()).getId(anyString());
-        verify(userService, never()).findByUserId(anyString());
+        verify(userStatusService, never()).isActiveUser(anyString());
     }
 
     @Test
@@ -459,8 +552,8 @@ class UserAuthUseCaseTest {
         String blacklistedToken = "blacklisted.token";
         
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(blacklistedToken));
-        when(tokenProvider.validateToken(blacklistedToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(blacklistedToken)).thenReturn(true);
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, blacklistedToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(blacklistedToken, "testuser", ACCESS_TOKEN_SUBJECT)));
         when(tokenBlacklistService.isBlacklistToken(blacklistedToken)).thenReturn(true);
 
         // when & then
@@ -470,11 +563,9 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(blacklistedToken);
-        verify(tokenProvider, times(1)).isAccessToken(blacklistedToken);
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, blacklistedToken);
         verify(tokenBlacklistService, times(1)).isBlacklistToken(blacklistedToken);
-        verify(tokenProvider, never()).getId(anyString());
-        verify(userService, never()).findByUserId(anyString());
+        verify(userStatusService, never()).isActiveUser(anyString());
     }
 
     @Test
@@ -484,10 +575,9 @@ class UserAuthUseCaseTest {
         String tokenWithoutUserId = "token.without.userid";
         
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(tokenWithoutUserId));
-        when(tokenProvider.validateToken(tokenWithoutUserId)).thenReturn(true);
-        when(tokenProvider.isAccessToken(tokenWithoutUserId)).thenReturn(true);
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, tokenWithoutUserId))
+                .thenReturn(java.util.Optional.of(verifiedToken(tokenWithoutUserId, null, ACCESS_TOKEN_SUBJECT)));
         when(tokenBlacklistService.isBlacklistToken(tokenWithoutUserId)).thenReturn(false);
-        when(tokenProvider.getId(tokenWithoutUserId)).thenReturn(java.util.Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -496,26 +586,23 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(tokenWithoutUserId);
-        verify(tokenProvider, times(1)).isAccessToken(tokenWithoutUserId);
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, tokenWithoutUserId);
         verify(tokenBlacklistService, times(1)).isBlacklistToken(tokenWithoutUserId);
-        verify(tokenProvider, times(1)).getId(tokenWithoutUserId);
-        verify(userService, never()).findByUserId(anyString());
+        verify(userStatusService, never()).isActiveUser(anyString());
     }
 
     @Test
-    @DisplayName("토큰 검증 실패 - 존재하지 않는 사용자")
+    @DisplayName("토큰 검증 실패 - 탈퇴/정지된 사용자")
     void verifyToken_UserNotFound_ThrowsException() {
         // given
         String validToken = "valid.token";
         String nonExistentUserId = "nonexistent";
         
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(validToken));
-        when(tokenProvider.validateToken(validToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(validToken)).thenReturn(true);
+        when(tokenProvider.resolveVerifiedToken(httpServletRequest, validToken))
+                .thenReturn(java.util.Optional.of(verifiedToken(validToken, nonExistentUserId, ACCESS_TOKEN_SUBJECT)));
         when(tokenBlacklistService.isBlacklistToken(validToken)).thenReturn(false);
-        when(tokenProvider.getId(validToken)).thenReturn(java.util.Optional.of(nonExistentUserId));
-        when(userService.findByUserId(nonExistentUserId)).thenThrow(new RestApiException(AuthErrorStatus.INVALID_ACCESS_TOKEN));
+        when(userStatusService.isActiveUser(nonExistentUserId)).thenReturn(false);
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -524,10 +611,18 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(validToken);
-        verify(tokenProvider, times(1)).isAccessToken(validToken);
+        verify(tokenProvider, times(1)).resolveVerifiedToken(httpServletRequest, validToken);
         verify(tokenBlacklistService, times(1)).isBlacklistToken(validToken);
-        verify(tokenProvider, times(1)).getId(validToken);
-        verify(userService, times(1)).findByUserId(nonExistentUserId);
+        verify(userStatusService, times(1)).isActiveUser(nonExistentUserId);
+    }
+
+    private static VerifiedToken verifiedToken(String token, String userId, String subject) {
+        Date expiration = new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+        return new VerifiedToken(token, null, userId, subject, expiration);
+    }
+
+    private static VerifiedToken verifiedToken(String token, String userId, String subject, String sessionId) {
+        Date expiration = new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+        return new VerifiedToken(token, Jwts.claims(java.util.Map.of("sid", sessionId)), userId, subject, expiration);
     }
 }
@@ -0,0 +1,188 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.Rotation;
+import com.youthfi.auth.domain.auth.domain.service.AuthTokenBatchService.RotationResult;
+import com.youthfi.auth.global.config.properties.SessionProperties;
+import com.youthfi.auth.global.config.properties.TokenCacheProperties;
+import com.youthfi.auth.global.security.VerifiedToken;
+import com.youthfi.auth.global.util.TokenDigest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthTokenBatchService 테스트")
+class AuthTokenBatchServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenWhitelistService tokenWhitelistService;
+    private AuthTokenBatchService authTokenBatchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenWhitelistService = new TokenWhitelistService(redisTemplate, new TokenCacheProperties(), meterRegistry);
+        authTokenBatchService = new AuthTokenBatchService(redisTemplate, tokenWhitelistService, tokenBlacklistService,
+                new SessionProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 한 번의 스크립트 실행으로 모든 키 처리, 로컬 캐시 반영")
+    @SuppressWarnings("unchecked")
+    void logout_SingleScriptCall() {
+        // given
+        String digest = TokenDigest.of("access.token");
+        tokenWhitelistService.cacheLocal(new VerifiedToken("access.token", null, "testuser", "AccessToken",
+                new Date(System.currentTimeMillis() + 600_000)));
+
+        // when
+        authTokenBatchService.logout("testuser", "session-1", "access.token", Duration.ofMinutes(5));
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("BLACKLIST:" + digest, "REFRESH_SESSIONS:testuser", "BLACKLIST_INDEX", "REFRESH_TOKEN:testuser",
+                        "WHITELIST:" + digest, "WHITELIST:access.token")),
+                eq("300000"), eq("BLACKLIST_CHANNEL"), eq(digest), eq("session-1"), anyString());
+        verify(tokenBlacklistService, times(1)).addToFilter(TokenDigest.bytes("access.token"));
+        assertFalse(tokenWhitelistService.findLocal("access.token").isPresent());
+    }
+
+    @Test
+    @DisplayName("재발급 - 저장된 토큰과 일치하면 교체 후 블룸 필터 반영")
+    @SuppressWarnings("unchecked")
+    void rotateRefreshToken_Success() {
+        // given
+        String digest = TokenDigest.of("old.refresh.token");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(1L));
+
+        // when
+        Rotation result = authTokenBatchService.rotateRefreshToken("testuser", "session-1", "old.refresh.token", "new.refresh.token",
+                Duration.ofDays(14), Duration.ofDays(7));
+
+        // then
+        assertEquals(RotationResult.ROTATED, result.result());
+        assertEquals("new.refresh.token", result.refreshToken());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("REFRESH_SESSIONS:testuser", "BLACKLIST:" + digest, "REFRESH_TOKEN:testuser", "REFRESH_TOKEN_GRACE:" + digest,
+                        "BLACKLIST_INDEX")),
+                eq("session-1"), eq(digest), eq("old.refresh.token"), eq(TokenDigest.of("new.refresh.token")),
+                anyString(), anyString(), eq(String.valueOf(Duration.ofDays(14).toMillis())),
+                eq(String.valueOf(Duration.ofDays(7).toMillis())), eq("BLACKLIST_CHANNEL"),
+                eq(String.valueOf(Duration.ofSeconds(10).toMillis())));
+        verify(tokenBlacklistService, times(1)).addToFilter(TokenDigest.bytes("old.refresh.token"));
+    }
+
+    @Test
+    @DisplayName("재발급 - 저장된 토큰과 불일치하면 MISMATCH, 로컬 반영 없음")
+    @SuppressWarnings("unchecked")
+    void rotateRefreshToken_Mismatch() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(0L));
+
+        // when
+        Rotation result = authTokenBatchService.rotateRefreshToken("testuser", "session-1", "old.refresh.token", "new.refresh.token",
+                Duration.ofDays(14), Duration.ofDays(7));
+
+        // then
+        assertEquals(RotationResult.MISMATCH, result.result());
+        assertNull(result.refreshToken());
+        verify(tokenBlacklistService, never()).addToFilter(any());
+        assertEquals(0.0, meterRegistry.get("auth.refresh_token.reuse").counter().count());
+    }
+
+    @Test
+    @DisplayName("재발급 - 이미 교체된 토큰 재사용이면 REUSED, 재사용 카운터 증가")
+    @SuppressWarnings("unchecked")
+    void rotateRefreshToken_Reused() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(-1L));
+
+        // when
+        Rotation result = authTokenBatchService.rotateRefreshToken("testuser", "session-1", "old.refresh.token", "new.refresh.token",
+                Duration.ofDays(14), Duration.ofDays(7));
+
+        // then
+        assertEquals(RotationResult.REUSED, result.result());
+        verify(tokenBlacklistService, never()).addToFilter(any());
+        assertEquals(1.0, meterRegistry.get("auth.refresh_token.reuse").counter().count());
+    }
+
+    @Test
+    @DisplayName("재발급 - 같은 리프레시 토큰으로 동시에 두 번 요청하면 둘 다 성공하고 세션은 나중 응답의 토큰으로 유지")
+    @SuppressWarnings("unchecked")
+    void rotateRefreshToken_ConcurrentSameToken_ReRotatesWithinGrace() throws Exception {
+        // given: 스크립트는 원자적으로 실행되므로 먼저 도착한 요청이 교체하고, 뒤 요청은 유예 키의 다이제스트로 확인 후 다시 교체한다
+        AtomicReference<String> sessionDigest = new AtomicReference<>();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            String newDigest = invocation.getArgument(5);
+            return List.of(sessionDigest.getAndSet(newDigest) == null ? 1L : 2L);
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Rotation> first = executor.submit(() -> {
+                start.await();
+                return authTokenBatchService.rotateRefreshToken("testuser", "session-1", "old.refresh.token", "new.refresh.token.A",
+                        Duration.ofDays(14), Duration.ofDays(7));
+            });
+            Future<Rotation> second = executor.submit(() -> {
+                start.await();
+                return authTokenBatchService.rotateRefreshToken("testuser", "session-1", "old.refresh.token", "new.refresh.token.B",
+                        Duration.ofDays(14), Duration.ofDays(7));
+            });
+            start.countDown();
+            Rotation a = first.get(5, TimeUnit.SECONDS);
+            Rotation b = second.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertTrue(a.succeeded());
+            assertTrue(b.succeeded());
+            assertEquals("new.refresh.token.A", a.refreshToken());
+            assertEquals("new.refresh.token.B", b.refreshToken());
+            String last = a.result() == RotationResult.ALREADY_ROTATED ? a.refreshToken() : b.refreshToken();
+            assertEquals(TokenDigest.of(last), sessionDigest.get());
+            assertEquals(0.0, meterRegistry.get("auth.refresh_token.reuse").counter().count());
+            verify(tokenBlacklistService, times(1)).addToFilter(TokenDigest.bytes("old.refresh.token"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.youthfi.auth.global.cache.TwoLevelCache;
+import com.youthfi.auth.global.config.properties.LoginCacheProperties;
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("LoginCredentialCache 테스트")
+class LoginCredentialCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private LoginCacheProperties properties;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisSubscriptionManager redisSubscriptionManager;
+    private LoginCredentialCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new LoginCacheProperties();
+        properties.setTtl(Duration.ofSeconds(5));
+        redisTemplate = mock(RedisTemplate.class);
+        redisSubscriptionManager = mock(RedisSubscriptionManager.class);
+        when(redisSubscriptionManager.isListening()).thenReturn(true);
+        cache = new LoginCredentialCache(properties, new SimpleMeterRegistry(), redisTemplate, redisSubscriptionManager, nanos::get);
+    }
+
+    @Test
+    @DisplayName("같은 자격 증명만 일치")
+    void matches_SameCredentialOnly() {
+        // when
+        cache.put("testuser", "password123");
+
+        // then
+        assertTrue(cache.matches("testuser", "password123"));
+        assertFalse(cache.matches("testuser", "wrongPassword"));
+        assertFalse(cache.matches("otheruser", "password123"));
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 만료")
+    void matches_AfterTtl_Expired() {
+        // given
+        cache.put("testuser", "password123");
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+
+        // then
+        assertFalse(cache.matches("testuser", "password123"));
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 시 무효화")
+    void invalidate_RemovesEntry() {
+        // given
+        cache.put("testuser", "password123");
+
+        // when
+        cache.invalidate("testuser");
+
+        // then
+        assertFalse(cache.matches("testuser", "password123"));
+        verify(redisTemplate).convertAndSend(TwoLevelCache.EVICT_CHANNEL, "loginCredentials:testuser");
+    }
+
+    @Test
+    @DisplayName("다른 파드의 무효화 메시지를 받으면 이 파드의 항목도 무효화")
+    void onMessage_OtherPodInvalidated_RemovesEntry() {
+        // given
+        cache.put("testuser", "password123");
+
+        // when
+        cache.onMessage(new DefaultMessage(TwoLevelCache.EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "loginCredentials:testuser".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertFalse(cache.matches("testuser", "password123"));
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 다른 파드의 무효화를 놓칠 수 있으므로 불일치")
+    void matches_SubscriptionLost_NeverMatches() {
+        // given
+        cache.put("testuser", "password123");
+
+        // when
+        when(redisSubscriptionManager.isListening()).thenReturn(false);
+
+        // then
+        assertFalse(cache.matches("testuser", "password123"));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 불일치")
+    void disabled_NeverMatches() {
+        // given
+        properties.setEnabled(false);
+        LoginCredentialCache disabled = new LoginCredentialCache(properties, new SimpleMeterRegistry(), redisTemplate, redisSubscriptionManager, nanos::get);
+
+        // when
+        disabled.put("testuser", "password123");
+
+        // then
+        assertFalse(disabled.matches("testuser", "password123"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.youthfi.auth.global.config.properties.SessionProperties;
+import com.youthfi.auth.global.util.TokenDigest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService 테스트")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SessionProperties sessionProperties;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        sessionProperties = new SessionProperties();
+        sessionProperties.setMaxPerUser(3);
+        sessionProperties.setDeviceMaxLength(10);
+        refreshTokenService = new RefreshTokenService(redisTemplate, sessionProperties);
+    }
+
+    @Test
+    @DisplayName("세션 등록 - 다이제스트만 저장하고 최대 세션 수를 스크립트에 전달")
+    @SuppressWarnings("unchecked")
+    void saveRefreshToken_StoresDigestWithLimit() {
+        // when
+        refreshTokenService.saveRefreshToken("testuser", "session-1", "refresh.token", Duration.ofDays(14), "Mozilla/5.0 (Macintosh)");
+
+        // then
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("REFRESH_SESSIONS:testuser")),
+                args.capture(), args.capture(), args.capture(), args.capture(), args.capture());
+        List<Object> values = args.getAllValues();
+        assertEquals("session-1", values.get(0));
+        RefreshSession session = RefreshSession.decode("session-1", (String) values.get(1));
+        assertEquals(TokenDigest.of("refresh.token"), session.tokenDigest());
+        assertEquals("Mozilla/5.", session.device());
+        assertFalse(((String) values.get(1)).contains("refresh.token"));
+        assertEquals("3", values.get(3));
+        assertEquals(String.valueOf(Duration.ofDays(14).toMillis()), values.get(4));
+    }
+
+    @Test
+    @DisplayName("세션 목록 - 만료/잘못된 항목 제외, 최근 사용 순 정렬")
+    void findSessions_FiltersExpiredAndSortsByLastUsed() {
+        // given
+        Instant now = Instant.now();
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        entries.put("old", session("old", now.plusSeconds(600), now.minusSeconds(600), "Chrome").encode());
+        entries.put("recent", session("recent", now.plusSeconds(600), now.minusSeconds(10), null).encode());
+        entries.put("expired", session("expired", now.minusSeconds(1), now.minusSeconds(5), "Safari").encode());
+        entries.put("broken", "not-a-session");
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("REFRESH_SESSIONS:testuser")).thenReturn(entries);
+
+        // when
+        List<RefreshSession> sessions = refreshTokenService.findSessions("testuser");
+
+        // then
+        assertEquals(List.of("recent", "old"), sessions.stream().map(RefreshSession::sessionId).toList());
+        assertNull(sessions.get(0).device());
+        assertEquals("Chrome", sessions.get(1).device());
+    }
+
+    @Test
+    @DisplayName("세션 폐기 - 해시 필드 하나만 삭제")
+    void revokeSession_DeletesSingleField() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.delete("REFRESH_SESSIONS:testuser", "session-1")).thenReturn(1L);
+        when(hashOperations.delete("REFRESH_SESSIONS:testuser", "unknown")).thenReturn(0L);
+
+        // when & then
+        assertTrue(refreshTokenService.revokeSession("testuser", "session-1"));
+        assertFalse(refreshTokenService.revokeSession("testuser", "unknown"));
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 - 세션 해시와 이전 형식 키 삭제")
+    void deleteRefreshToken_DeletesAllSessions() {
+        // when
+        refreshTokenService.deleteRefreshToken("testuser");
+
+        // then
+        verify(redisTemplate, times(1)).delete(List.of("REFRESH_SESSIONS:testuser", "REFRESH_TOKEN:testuser"));
+    }
+
+    private static RefreshSession session(String sessionId, Instant expiresAt, Instant lastUsedAt, String device) {
+        return new RefreshSession(sessionId, TokenDigest.of(sessionId), expiresAt, lastUsedAt, lastUsedAt, device);
+    }
+}
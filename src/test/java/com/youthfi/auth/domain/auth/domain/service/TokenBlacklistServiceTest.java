@@ -0,0 +1,129 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import com.youthfi.auth.global.config.properties.TokenCacheProperties;
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+import com.youthfi.auth.global.util.TokenDigest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistService 테스트")
+class TokenBlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        TokenCacheProperties properties = new TokenCacheProperties();
+        properties.setLegacyKeyRead(false);
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, properties, redisSubscriptionManager);
+    }
+
+    @Test
+    @DisplayName("필터 재구성 - 키스페이스 SCAN 대신 만료 시각 인덱스를 정리 후 읽음")
+    void rebuildFilter_ReadsIndex() {
+        // given
+        givenIndex("revoked.token");
+
+        // when
+        tokenBlacklistService.rebuildFilter();
+
+        // then
+        verify(zSetOperations, times(1)).removeRangeByScore(eq("BLACKLIST_INDEX"), eq(0.0), anyDouble());
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("구독 중이면 필터가 없다고 답한 토큰은 Redis 조회 없이 통과")
+    void isBlacklistToken_Listening_TrustsFilter() {
+        // given
+        givenIndex("revoked.token");
+        tokenBlacklistService.rebuildFilter();
+        when(redisSubscriptionManager.isListening()).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklistToken("active.token");
+
+        // then
+        assertFalse(result);
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 필터를 버리고 Redis 로 조회")
+    void isBlacklistToken_SubscriptionLost_QueriesRedis() {
+        // given
+        givenIndex("revoked.token");
+        tokenBlacklistService.rebuildFilter();
+        when(redisSubscriptionManager.isListening()).thenReturn(false);
+        when(redisTemplate.hasKey("BLACKLIST:" + TokenDigest.of("missed.token"))).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklistToken("missed.token");
+
+        // then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("재구독되면 끊긴 동안의 등록이 빠졌을 수 있으므로 필터를 버리고 Redis 로 조회")
+    void isBlacklistToken_Resubscribed_QueriesRedis() {
+        // given
+        givenIndex("revoked.token");
+        tokenBlacklistService.rebuildFilter();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(redisSubscriptionManager).addListener(listener.capture(), any());
+        ((SubscriptionListener) listener.getValue()).onChannelSubscribed("BLACKLIST_CHANNEL".getBytes(), 1);
+        when(redisTemplate.hasKey("BLACKLIST:" + TokenDigest.of("missed.token"))).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklistService.isBlacklistToken("missed.token");
+
+        // then
+        assertTrue(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIndex(String token) {
+        Cursor<TypedTuple<String>> cursor = mock(Cursor.class);
+        when(redisSubscriptionManager.ensureListening()).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.scan(eq("BLACKLIST_INDEX"), any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(new DefaultTypedTuple<>(TokenDigest.of(token), 0.0));
+    }
+}
@@ -0,0 +1,127 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.youthfi.auth.global.config.properties.TokenCacheProperties;
+import com.youthfi.auth.global.security.VerifiedToken;
+import com.youthfi.auth.global.util.TokenDigest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenWhitelistService 테스트")
+class TokenWhitelistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenWhitelistService tokenWhitelistService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenWhitelistService = new TokenWhitelistService(redisTemplate, new TokenCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("화이트리스트 등록 후 로컬 캐시에서 조회")
+    void whitelist_ThenFindLocal() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        VerifiedToken verifiedToken = verifiedToken("access.token", Duration.ofMinutes(10));
+
+        // when
+        tokenWhitelistService.whitelist(verifiedToken);
+
+        // then
+        assertEquals(verifiedToken, tokenWhitelistService.findLocal("access.token").orElseThrow());
+        verify(valueOperations, times(1)).set("WHITELIST:" + TokenDigest.of("access.token"), "1", Duration.ofSeconds(30));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "token.whitelist.local").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 로컬 캐시에 남지 않음")
+    void cacheLocal_ExpiredToken_NotCached() {
+        // given
+        VerifiedToken expired = verifiedToken("expired.token", Duration.ofSeconds(-1));
+
+        // when
+        tokenWhitelistService.cacheLocal(expired);
+
+        // then
+        assertFalse(tokenWhitelistService.findLocal("expired.token").isPresent());
+    }
+
+    @Test
+    @DisplayName("화이트리스트 삭제 시 로컬 캐시도 제거")
+    void deleteWhitelistToken_InvalidatesLocal() {
+        // given
+        tokenWhitelistService.cacheLocal(verifiedToken("access.token", Duration.ofMinutes(10)));
+        assertTrue(tokenWhitelistService.findLocal("access.token").isPresent());
+
+        // when
+        tokenWhitelistService.deleteWhitelistToken("access.token");
+
+        // then
+        assertFalse(tokenWhitelistService.findLocal("access.token").isPresent());
+        verify(redisTemplate, times(1)).delete(List.of("WHITELIST:" + TokenDigest.of("access.token"), "WHITELIST:access.token"));
+    }
+
+    @Test
+    @DisplayName("마이그레이션 모드에서 이전 형식 키도 화이트리스트로 인정")
+    void isWhitelistToken_LegacyKey() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("WHITELIST:" + TokenDigest.of("access.token"), "WHITELIST:access.token")))
+                .thenReturn(Arrays.asList(null, "access.token"));
+
+        // when
+        boolean result = tokenWhitelistService.isWhitelistToken("access.token");
+
+        // then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 종료 후에는 다이제스트 키만 조회")
+    void isWhitelistToken_DigestKeyOnly() {
+        // given
+        TokenCacheProperties properties = new TokenCacheProperties();
+        properties.setLegacyKeyRead(false);
+        TokenWhitelistService service = new TokenWhitelistService(redisTemplate, properties, meterRegistry);
+        when(redisTemplate.hasKey("WHITELIST:" + TokenDigest.of("access.token"))).thenReturn(true);
+
+        // when
+        boolean result = service.isWhitelistToken("access.token");
+
+        // then
+        assertTrue(result);
+    }
+
+    private static VerifiedToken verifiedToken(String token, Duration remaining) {
+        Date expiration = new Date(System.currentTimeMillis() + remaining.toMillis());
+        return new VerifiedToken(token, null, "testuser", "AccessToken", expiration);
+    }
+}
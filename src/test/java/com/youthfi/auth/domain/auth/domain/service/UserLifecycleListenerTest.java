@@ -0,0 +1,106 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.youthfi.auth.domain.auth.domain.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserLifecycleListener 테스트")
+class UserLifecycleListenerTest {
+
+    @Mock
+    private UserStatusService userStatusService;
+
+    @Mock
+    private LoginCredentialCache loginCredentialCache;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache profileCache;
+
+    @InjectMocks
+    private UserLifecycleListener userLifecycleListener;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("탈퇴 표시된 사용자 - 커밋 후 차단 등록")
+    void onUpdate_Deleted_RevokesAfterCommit() {
+        // given
+        User user = user();
+        user.deleted();
+        when(cacheManager.getCache(UserService.PROFILE_CACHE)).thenReturn(profileCache);
+
+        // when
+        userLifecycleListener.onUpdate(user);
+
+        // then
+        verify(userStatusService, never()).revoke(anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(userStatusService, times(1)).revoke("testuser");
+        verify(loginCredentialCache, times(1)).invalidate("testuser");
+        verify(profileCache, times(1)).evict("testuser");
+    }
+
+    @Test
+    @DisplayName("일반 수정 - 차단 등록 없음")
+    void onUpdate_NotDeleted_DoesNothing() {
+        // when
+        userLifecycleListener.onUpdate(user());
+
+        // then
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(userStatusService, never()).revoke(anyString());
+    }
+
+    @Test
+    @DisplayName("삭제가 롤백되면 차단 등록 없음")
+    void onRemove_RolledBack_DoesNotRevoke() {
+        // given
+        when(cacheManager.getCache(UserService.PROFILE_CACHE)).thenReturn(profileCache);
+
+        // when
+        userLifecycleListener.onRemove(user());
+
+        // then
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verify(userStatusService, never()).revoke(anyString());
+    }
+
+    private static User user() {
+        return User.builder()
+                .userId("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .name("홍길동")
+                .birth("1990-01-01")
+                .build();
+    }
+}
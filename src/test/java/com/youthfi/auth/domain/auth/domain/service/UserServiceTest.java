@@ -0,0 +1,134 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.youthfi.auth.domain.auth.application.dto.request.SignUpRequest;
+import com.youthfi.auth.domain.auth.domain.entity.User;
+import com.youthfi.auth.domain.auth.domain.repository.UserRepository;
+import com.youthfi.auth.global.exception.RestApiException;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UserService.class)
+@DisplayName("UserService 테스트")
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    // User 엔티티 리스너(UserLifecycleListener) 의존성
+    @MockitoBean
+    private UserStatusService userStatusService;
+
+    @MockitoBean
+    private LoginCredentialCache loginCredentialCache;
+
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        entityManager.persistAndFlush(User.builder()
+                .userId("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .name("홍길동")
+                .birth("1990-01-01")
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("회원가입 성공 - 중복 확인 조회 1회 후 저장")
+    void save_Success() {
+        // when
+        userService.save(new SignUpRequest("new@example.com", "newuser", "password123", "김철수", "1985-05-15"));
+
+        // then
+        verify(userRepository, times(1)).findEmailsByEmailOrUserId("new@example.com", "newuser");
+        assertTrue(userRepository.existsByUserId("newuser"));
+        assertTrue(userRepository.existsByEmail("new@example.com"));
+        assertFalse(userRepository.existsByEmail("none@example.com"));
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 중복 이메일은 비밀번호 인코딩 전에 거부")
+    void save_DuplicateEmail_RejectsBeforeEncoding() {
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                userService.save(new SignUpRequest("test@example.com", "newuser", "password123", "김철수", "1985-05-15")));
+
+        assertEquals("AUTH009", exception.getErrorCode().getCode());
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 확인 후 다른 요청이 먼저 저장한 경우(경쟁) 이메일 유니크 제약 위반은 중복 이메일 오류")
+    void save_DuplicateEmailRace_ThrowsAlreadyRegisteredEmail() {
+        // given
+        doReturn(List.of()).when(userRepository).findEmailsByEmailOrUserId("test@example.com", "newuser");
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                userService.save(new SignUpRequest("test@example.com", "newuser", "password123", "김철수", "1985-05-15")));
+
+        assertEquals("AUTH009", exception.getErrorCode().getCode());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 중복 아이디는 비밀번호 인코딩 전에 거부")
+    void save_DuplicateUserId_RejectsBeforeEncoding() {
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                userService.save(new SignUpRequest("new@example.com", "testuser", "password123", "김철수", "1985-05-15")));
+
+        assertEquals("AUTH010", exception.getErrorCode().getCode());
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 경쟁으로 기본 키 위반 시 중복 아이디 오류 (기존 사용자를 덮어쓰지 않음)")
+    void save_DuplicateUserIdRace_ThrowsAlreadyRegisteredUserId() {
+        // given
+        doReturn(List.of()).when(userRepository).findEmailsByEmailOrUserId("new@example.com", "testuser");
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                userService.save(new SignUpRequest("new@example.com", "testuser", "password123", "김철수", "1985-05-15")));
+
+        assertEquals("AUTH010", exception.getErrorCode().getCode());
+    }
+}
@@ -0,0 +1,82 @@
+package com.youthfi.auth.domain.auth.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+
+import com.youthfi.auth.global.util.RedisSubscriptionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatusService 테스트")
+class UserStatusServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    private UserStatusService userStatusService;
+
+    @BeforeEach
+    void setUp() {
+        userStatusService = new UserStatusService(redisTemplate, redisSubscriptionManager);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 Redis 로 차단 여부 조회")
+    void isActiveUser_NotSynced_QueriesRedis() {
+        // given
+        when(setOperations.isMember("REVOKED_USERS", "testuser")).thenReturn(true);
+
+        // when
+        boolean result = userStatusService.isActiveUser("testuser");
+
+        // then
+        assertFalse(result);
+    }
+
+    @Test
+    @DisplayName("동기화 후에는 메모리 집합으로 판정하고 차단 즉시 반영")
+    void isActiveUser_Synced_UsesLocalSet() {
+        // given
+        @SuppressWarnings("unchecked")
+        Cursor<String> cursor = mock(Cursor.class);
+        when(redisSubscriptionManager.ensureListening()).thenReturn(true);
+        when(redisSubscriptionManager.isListening()).thenReturn(true);
+        when(setOperations.scan(any(), any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("revoked");
+        userStatusService.reload();
+
+        // when
+        userStatusService.revoke("testuser");
+
+        // then
+        assertFalse(userStatusService.isActiveUser("revoked"));
+        assertFalse(userStatusService.isActiveUser("testuser"));
+        assertTrue(userStatusService.isActiveUser("active"));
+        verify(setOperations, times(1)).add("REVOKED_USERS", "testuser");
+        verify(redisTemplate, times(1)).convertAndSend("REVOKED_USERS_CHANNEL", "testuser");
+        verify(setOperations, never()).isMember(any(), any());
+    }
+}
@@ -1,5 +1,7 @@
 package com.youthfi.auth.domain.email.application.usecase;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,16 +12,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.youthfi.auth.domain.email.application.dto.request.SendVerificationRequest;
 import com.youthfi.auth.domain.email.domain.service.EmailService;
+import com.youthfi.auth.global.exception.RateLimitExceededException;
 import com.youthfi.auth.global.exception.RestApiException;
 import com.youthfi.auth.global.exception.code.status.EmailErrorStatus;
+import com.youthfi.auth.global.ratelimit.RateLimitResult;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SendEmailVerificationUseCase 테스트")
@@ -42,7 +46,7 @@ class SendEmailVerificationUseCaseTest {
     @DisplayName("이메일 인증 발송 성공")
     void sendVerification_Success() {
         // given
-        doNothing().when(emailService).sendVerificationCode(anyString());
+        when(emailService.sendVerificationCode(anyString())).thenReturn(RateLimitResult.allowed(4));
 
         // when & then
         assertDoesNotThrow(() -> {
@@ -100,6 +104,23 @@ class SendEmailVerificationUseCaseTest {
         verify(emailService, times(1)).sendVerificationCode("test@example.com");
     }
 
+    @Test
+    @DisplayName("한도 초과 예외는 Retry-After 정보와 함께 그대로 전달")
+    void sendVerification_RateLimited_PassesThrough() {
+        // given
+        RateLimitResult rejected = RateLimitResult.rejected(Duration.ofSeconds(42), 0);
+        doThrow(new RateLimitExceededException(EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE, rejected))
+                .when(emailService).sendVerificationCode(anyString());
+
+        // when & then
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> {
+            sendEmailVerificationUseCase.sendVerification(validRequest);
+        });
+
+        assertEquals(EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE.getCode(), exception.getErrorCode());
+        assertEquals("42", exception.getRateLimit().toHeaders().getFirst("Retry-After"));
+    }
+
     @Test
     @DisplayName("기타 예외 발생 시 EMAIL_SEND_FAILED 예외 발생")
     void sendVerification_OtherException_ThrowsException() {
@@ -126,7 +147,7 @@ class SendEmailVerificationUseCaseTest {
                 "admin@youthfi.com"
         };
 
-        doNothing().when(emailService).sendVerificationCode(anyString());
+        when(emailService.sendVerificationCode(anyString())).thenReturn(RateLimitResult.allowed(4));
 
         // when & then
         for (String email : testEmails) {
@@ -0,0 +1,260 @@
+package com.youthfi.auth.domain.email.domain.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import com.youthfi.auth.global.config.properties.EmailDispatchProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxWorker 테스트")
+class EmailOutboxWorkerTest {
+
+    private static final RecordId RECORD_ID = RecordId.of("1700000000000-0");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailService emailService;
+
+    private EmailDispatchProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmailDispatchProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new EmailOutboxWorker(redisTemplate, mailSender, emailService, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("발송 성공한 메일은 ACK 후 스트림에서 삭제")
+    void deliver_Success_AcknowledgesAndDeletes() throws Exception {
+        // given
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        MimeMessage mail = new MimeMessage((Session) null);
+        when(emailService.createVerificationMail("test@example.com", "123456", null)).thenReturn(mail);
+
+        // when
+        worker.deliver(List.of(record()));
+
+        // then
+        verify(mailSender, times(1)).send(new MimeMessage[]{mail});
+        verify(streamOperations, times(1)).acknowledge(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP, RECORD_ID);
+        verify(streamOperations, times(1)).delete(EmailOutboxService.STREAM_KEY, RECORD_ID);
+        assertEquals(1, meterRegistry.get("email.send").tag("result", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("발송 실패한 메일은 ACK 하지 않고 재시도 대상으로 남김")
+    void deliver_Failure_LeavesPending() throws Exception {
+        // given
+        MimeMessage mail = new MimeMessage((Session) null);
+        when(emailService.createVerificationMail("test@example.com", "123456", null)).thenReturn(mail);
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        worker.deliver(List.of(record()));
+
+        // then
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        assertEquals(1, meterRegistry.get("email.send").tag("result", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("메일을 만들 수 없는 메시지는 첫 시도에 dead-letter 스트림으로 옮기고 ACK, 나머지는 발송")
+    @SuppressWarnings("unchecked")
+    void deliver_InvalidMessage_DeadLettersImmediately() throws Exception {
+        // given
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        RecordId invalidId = RecordId.of("1700000000000-1");
+        MapRecord<String, Object, Object> invalid = StreamRecords.<String, Object, Object>mapBacked(Map.of(
+                        EmailOutboxService.TYPE_FIELD, "unknown",
+                        EmailOutboxService.TO_FIELD, "test@example.com"))
+                .withStreamKey(EmailOutboxService.STREAM_KEY)
+                .withId(invalidId);
+        MimeMessage mail = new MimeMessage((Session) null);
+        when(emailService.createVerificationMail("test@example.com", "123456", null)).thenReturn(mail);
+
+        // when
+        worker.deliver(List.of(invalid, record()));
+
+        // then
+        ArgumentCaptor<MapRecord<String, Object, Object>> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations, times(1)).add(deadLetter.capture());
+        assertEquals(EmailOutboxService.DEAD_LETTER_KEY, deadLetter.getValue().getStream());
+        assertEquals(invalidId.getValue(), deadLetter.getValue().getValue().get("sourceId"));
+        verify(streamOperations, times(1)).acknowledge(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP, invalidId);
+        verify(streamOperations, times(1)).delete(EmailOutboxService.STREAM_KEY, invalidId);
+        verify(mailSender, times(1)).send(new MimeMessage[]{mail});
+        assertEquals(1.0, meterRegistry.get("email.outbox.dead_lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 메일은 코드 없이 dead-letter 스트림으로 이동")
+    void reclaim_MaxAttempts_MovesToDeadLetter() {
+        // given
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.pending(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP))
+                .thenReturn(new PendingMessagesSummary(EmailOutboxService.GROUP, 1, Range.unbounded(), Map.of()));
+        PendingMessage pending = new PendingMessage(RECORD_ID, Consumer.from(EmailOutboxService.GROUP, "dead-pod-0"),
+                Duration.ofMinutes(5), properties.getMaxAttempts());
+        when(streamOperations.pending(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP, Range.unbounded(), 100L))
+                .thenReturn(new PendingMessages(EmailOutboxService.GROUP, List.of(pending)));
+        when(streamOperations.claim(eq(EmailOutboxService.STREAM_KEY), eq(EmailOutboxService.GROUP), anyString(),
+                eq(properties.getMaxRetryBackoff()), eq(RECORD_ID)))
+                .thenReturn(List.of(record()));
+
+        // when
+        worker.reclaim();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MapRecord<String, Object, Object>> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations, times(1)).add(deadLetter.capture());
+        assertEquals(EmailOutboxService.DEAD_LETTER_KEY, deadLetter.getValue().getStream());
+        assertNull(deadLetter.getValue().getValue().get(EmailOutboxService.CODE_FIELD));
+        verify(streamOperations, times(1)).acknowledge(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP, RECORD_ID);
+        verify(mailSender, never()).send(any(MimeMessage[].class));
+        assertEquals(1.0, meterRegistry.get("email.outbox.dead_lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("백오프 시간이 지나지 않은 메일은 가져오지 않음")
+    void reclaim_WithinBackoff_Skips() {
+        // given
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.pending(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP))
+                .thenReturn(new PendingMessagesSummary(EmailOutboxService.GROUP, 1, Range.unbounded(), Map.of()));
+        PendingMessage pending = new PendingMessage(RECORD_ID, Consumer.from(EmailOutboxService.GROUP, "pod-0"),
+                Duration.ofSeconds(15), 2);
+        when(streamOperations.pending(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP, Range.unbounded(), 100L))
+                .thenReturn(new PendingMessages(EmailOutboxService.GROUP, List.of(pending)));
+
+        // when
+        worker.reclaim();
+
+        // then: 2번 시도 후 백오프는 20초
+        verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(Duration.class), any(RecordId[].class));
+        assertEquals(1.0, meterRegistry.get("email.outbox.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("SMTP 가 느려도 reclaim 은 발송을 기다리지 않고 발송 스레드에 넘김 (스케줄러 스레드를 막지 않음)")
+    @SuppressWarnings("unchecked")
+    void reclaim_SlowSmtp_DoesNotBlockScheduler() throws Exception {
+        // given: 발송 스레드는 새 메일이 없어 잠깐씩 대기
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        lenient().when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(20);
+                    return List.of();
+                });
+        when(streamOperations.pending(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP))
+                .thenReturn(new PendingMessagesSummary(EmailOutboxService.GROUP, 1, Range.unbounded(), Map.of()));
+        PendingMessage pending = new PendingMessage(RECORD_ID, Consumer.from(EmailOutboxService.GROUP, "pod-0"),
+                Duration.ofMinutes(5), 2);
+        when(streamOperations.pending(EmailOutboxService.STREAM_KEY, EmailOutboxService.GROUP, Range.unbounded(), 100L))
+                .thenReturn(new PendingMessages(EmailOutboxService.GROUP, List.of(pending)));
+        when(streamOperations.claim(eq(EmailOutboxService.STREAM_KEY), eq(EmailOutboxService.GROUP), anyString(),
+                any(Duration.class), eq(RECORD_ID)))
+                .thenReturn(List.of(record()));
+        when(emailService.createVerificationMail("test@example.com", "123456", null))
+                .thenReturn(new MimeMessage((Session) null));
+
+        // SMTP 응답이 오지 않는 상황
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch smtpResponds = new CountDownLatch(1);
+        AtomicReference<String> sendThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            sendThread.set(Thread.currentThread().getName());
+            sending.countDown();
+            smtpResponds.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        worker.start();
+        try {
+            // when
+            long startedAt = System.nanoTime();
+            worker.reclaim();
+            long reclaimMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then: reclaim 은 바로 끝나고, 발송은 발송 스레드에서 진행 중
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            assertTrue(reclaimMillis < 1000, "reclaim took " + reclaimMillis + "ms");
+            assertTrue(sendThread.get().startsWith("email-outbox-"));
+        } finally {
+            smtpResponds.countDown();
+            worker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 2배, 최대값 제한")
+    void backoff_Exponential_Capped() {
+        assertEquals(Duration.ofSeconds(10), worker.backoff(1));
+        assertEquals(Duration.ofSeconds(20), worker.backoff(2));
+        assertEquals(Duration.ofSeconds(80), worker.backoff(4));
+        assertEquals(Duration.ofMinutes(2), worker.backoff(10));
+    }
+
+    private static MapRecord<String, Object, Object> record() {
+        return StreamRecords.<String, Object, Object>mapBacked(Map.of(
+                        EmailOutboxService.TYPE_FIELD, EmailOutboxService.TYPE_VERIFICATION,
+                        EmailOutboxService.TO_FIELD, "test@example.com",
+                        EmailOutboxService.CODE_FIELD, "123456"))
+                .withStreamKey(EmailOutboxService.STREAM_KEY)
+                .withId(RECORD_ID);
+    }
+}
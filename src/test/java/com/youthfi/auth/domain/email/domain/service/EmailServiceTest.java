@@ -0,0 +1,70 @@
+package com.youthfi.auth.domain.email.domain.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import com.youthfi.auth.domain.email.domain.template.MailTemplateEngine;
+import com.youthfi.auth.global.ratelimit.RateLimitResult;
+import com.youthfi.auth.global.ratelimit.RedisRateLimiter;
+import com.youthfi.auth.global.security.TokenProvider;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailService 테스트")
+class EmailServiceTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private EmailVerificationService emailVerificationService;
+
+    @Mock
+    private MailTemplateEngine mailTemplateEngine;
+
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailService = new EmailService(mailSender, emailOutboxService, new RedisRateLimiter(redisTemplate),
+                tokenProvider, emailVerificationService, mailTemplateEngine);
+    }
+
+    @Test
+    @DisplayName("오늘 첫 발송 후 남은 횟수는 쿨다운이 아닌 일일 한도 기준 (5회 중 4회)")
+    @SuppressWarnings("unchecked")
+    void sendVerificationCode_FirstOfDay_RemainingIsDailyQuota() {
+        // given: 스크립트 결과 {허용, retry-after, 거부 규칙, 쿨다운 남은 횟수, 일일 남은 횟수}
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 0L, 0L, 0L, 4L));
+        when(emailVerificationService.generateVerificationCode()).thenReturn("123456");
+
+        // when
+        RateLimitResult result = emailService.sendVerificationCode("test@example.com");
+
+        // then
+        assertEquals(4, result.remaining());
+        assertEquals("4", result.toHeaders().getFirst(RateLimitResult.REMAINING_HEADER));
+    }
+}
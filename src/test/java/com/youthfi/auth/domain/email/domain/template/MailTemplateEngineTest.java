@@ -0,0 +1,105 @@
+package com.youthfi.auth.domain.email.domain.template;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.youthfi.auth.global.config.properties.EmailTemplateProperties;
+
+@DisplayName("MailTemplateEngine 테스트")
+class MailTemplateEngineTest {
+
+    private MailTemplateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new MailTemplateEngine(new EmailTemplateProperties());
+        engine.load();
+    }
+
+    @Test
+    @DisplayName("회원가입 인증 메일 변수 치환")
+    void render_SignupCode_Korean() {
+        // when
+        RenderedMail mail = engine.render(MailTemplateType.SIGNUP_CODE, Locale.KOREAN, "123456", "5");
+
+        // then
+        assertEquals("[YouthFi] 회원가입 이메일 인증", mail.subject());
+        assertTrue(mail.html().contains(">123456</div>"));
+        assertTrue(mail.html().contains("5분 후 만료"));
+        assertFalse(mail.html().contains("{{"));
+    }
+
+    @Test
+    @DisplayName("요청 언어 템플릿 사용, 없는 언어는 기본 언어로 대체")
+    void render_LocaleResolution() {
+        // when
+        RenderedMail english = engine.render(MailTemplateType.SIGNUP_CODE, Locale.US, "123456", "5");
+        RenderedMail japanese = engine.render(MailTemplateType.SIGNUP_CODE, Locale.JAPANESE, "123456", "5");
+        RenderedMail unknown = engine.render(MailTemplateType.SIGNUP_CODE, null, "123456", "5");
+
+        // then
+        assertEquals("[YouthFi] Verify your email address", english.subject());
+        assertTrue(english.html().contains("expires in 5 minutes"));
+        assertEquals("[YouthFi] 회원가입 이메일 인증", japanese.subject());
+        assertEquals("[YouthFi] 회원가입 이메일 인증", unknown.subject());
+    }
+
+    @Test
+    @DisplayName("본문 변수 값은 HTML 이스케이프")
+    void render_EscapesHtml() {
+        // when
+        RenderedMail mail = engine.render(MailTemplateType.LOGIN_ALERT, Locale.KOREAN,
+                "user<1>", "2025-01-01 09:00", "<script>alert('x')</script>");
+
+        // then
+        assertTrue(mail.html().contains("user&lt;1&gt;님"));
+        assertTrue(mail.html().contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;"));
+        assertFalse(mail.html().contains("<script>"));
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 이전 렌더링 결과가 섞이지 않음")
+    void render_ReusesBuffer() {
+        // when
+        engine.render(MailTemplateType.LOGIN_ALERT, Locale.KOREAN, "user1", "2025-01-01 09:00", "Chrome");
+        RenderedMail mail = engine.render(MailTemplateType.PASSWORD_RESET, Locale.KOREAN, "654321", "5");
+
+        // then
+        assertEquals("[YouthFi] 비밀번호 재설정 인증", mail.subject());
+        assertTrue(mail.html().startsWith("<div"));
+        assertFalse(mail.html().contains("Chrome"));
+    }
+
+    @Test
+    @DisplayName("변수 개수가 다르면 예외")
+    void render_WrongValueCount_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.render(MailTemplateType.SIGNUP_CODE, Locale.KOREAN, "123456"));
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 변수를 쓴 템플릿은 로딩 실패")
+    void compile_UnknownVariable_Throws() {
+        assertThrows(IllegalStateException.class, () -> MailTemplate.compile(MailTemplateType.SIGNUP_CODE,
+                "Subject: 제목\n<p>{{password}}</p>", "test.html"));
+    }
+
+    @Test
+    @DisplayName("기본 언어 템플릿이 없으면 기동 실패")
+    void load_MissingDefaultLanguage_Throws() {
+        // given
+        EmailTemplateProperties properties = new EmailTemplateProperties();
+        properties.setDefaultLanguage("ja");
+        MailTemplateEngine engine = new MailTemplateEngine(properties);
+
+        // when & then
+        assertThrows(IllegalStateException.class, engine::load);
+    }
+}
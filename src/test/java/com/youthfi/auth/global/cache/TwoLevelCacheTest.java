@@ -0,0 +1,153 @@
+package com.youthfi.auth.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youthfi.auth.domain.auth.application.dto.response.ProfileResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    private static final String KEY = "CACHE:userProfile:testuser";
+    private static final ProfileResponse PROFILE = new ProfileResponse("testuser", "test@example.com", "홍길동", "1990-01-01");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private TwoLevelCache cache(boolean remote) {
+        return new TwoLevelCache("userProfile", Caffeine.newBuilder().recordStats().build(), redisTemplate, remote,
+                objectMapper, ProfileResponse.class, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 미스면 원본 조회 후 양쪽에 저장, 이후 L1 적중")
+    void get_Miss_LoadsAndStores() throws Exception {
+        // given
+        TwoLevelCache cache = cache(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        ProfileResponse first = cache.get("testuser", () -> PROFILE);
+        ProfileResponse second = cache.get("testuser", () -> null);
+
+        // then
+        assertEquals(PROFILE, first);
+        assertEquals(PROFILE, second);
+        verify(valueOperations, times(1)).get(KEY);
+        verify(valueOperations, times(1)).set(KEY, objectMapper.writeValueAsString(PROFILE), Duration.ofMinutes(10));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("tier", "redis", "result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("L1 미스, L2 적중이면 원본을 조회하지 않음")
+    void get_RedisHit_SkipsLoader() throws Exception {
+        // given
+        TwoLevelCache cache = cache(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(PROFILE));
+
+        // when
+        ProfileResponse result = cache.get("testuser", () -> {
+            throw new IllegalStateException("원본 조회 안 함");
+        });
+
+        // then
+        assertEquals(PROFILE, result);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("tier", "redis", "result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 원본 조회")
+    void get_RedisDown_FallsBackToLoader() {
+        // given
+        TwoLevelCache cache = cache(true);
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        ProfileResponse result = cache.get("testuser", () -> PROFILE);
+
+        // then
+        assertEquals(PROFILE, result);
+    }
+
+    @Test
+    @DisplayName("무효화 시 L1/L2 삭제 후 다른 파드에 전파")
+    void evict_DeletesAndPublishes() {
+        // given
+        TwoLevelCache cache = cache(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache.put("testuser", PROFILE);
+
+        // when
+        cache.evict("testuser");
+
+        // then
+        assertNull(cache.get("testuser"));
+        verify(redisTemplate, times(1)).delete(KEY);
+        verify(redisTemplate, times(1)).convertAndSend(TwoLevelCache.EVICT_CHANNEL, "userProfile:testuser");
+    }
+
+    @Test
+    @DisplayName("L2 미사용이어도 무효화는 전파, Redis 조회는 하지 않음")
+    void localOnly_PublishesEvictWithoutRedisReads() {
+        // given
+        TwoLevelCache cache = cache(false);
+        cache.put("testuser", PROFILE);
+
+        // when
+        cache.evict("testuser");
+
+        // then
+        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate, times(1)).convertAndSend(TwoLevelCache.EVICT_CHANNEL, "userProfile:testuser");
+    }
+
+    @Test
+    @DisplayName("다른 파드의 무효화 메시지를 받으면 L1 삭제")
+    void onMessage_InvalidatesLocal() {
+        // given
+        TwoLevelCache cache = cache(false);
+        cache.put("testuser", PROFILE);
+
+        // when
+        cache.onMessage(new DefaultMessage(TwoLevelCache.EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "userProfile:testuser".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertNull(cache.get("testuser"));
+    }
+}
@@ -0,0 +1,174 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.youthfi.auth.global.config.properties.RateLimitProperties;
+import com.youthfi.auth.global.config.properties.RateLimitProperties.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalRateLimiter 테스트")
+class LocalRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private LocalRateLimiter rateLimiter;
+    private Limit limit;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LocalRateLimiter(redisTemplate, new RateLimitProperties(), nanos::get);
+        limit = new Limit();
+        limit.setLimit(3);
+        limit.setWindow(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 거부, 채워지는 시간이 지나면 다시 허용")
+    void tryAcquire_BurstThenRefill() {
+        // when & then
+        assertEquals(2, rateLimiter.tryAcquire("login:ip:1.1.1.1", limit).remaining());
+        assertTrue(rateLimiter.tryAcquire("login:ip:1.1.1.1", limit).allowed());
+        assertTrue(rateLimiter.tryAcquire("login:ip:1.1.1.1", limit).allowed());
+
+        RateLimitResult rejected = rateLimiter.tryAcquire("login:ip:1.1.1.1", limit);
+        assertFalse(rejected.allowed());
+        assertEquals(Duration.ofSeconds(20), rejected.retryAfter());
+
+        // 다른 키는 별도 버킷
+        assertTrue(rateLimiter.tryAcquire("login:ip:2.2.2.2", limit).allowed());
+
+        // 분당 3개 -> 20초마다 1개
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertTrue(rateLimiter.tryAcquire("login:ip:1.1.1.1", limit).allowed());
+    }
+
+    @Test
+    @DisplayName("전체 파드 합계가 한도에 도달한 키는 로컬 버킷이 남아 있어도 거부")
+    @SuppressWarnings("unchecked")
+    void reconcile_ClusterLimitReached_Blocks() {
+        // given
+        rateLimiter.tryAcquire("login:key:alice", limit);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(3L));
+
+        // when
+        rateLimiter.reconcile();
+
+        // then
+        RateLimitResult result = rateLimiter.tryAcquire("login:key:alice", limit);
+        assertFalse(result.allowed());
+        assertTrue(result.retryAfter().compareTo(Duration.ZERO) > 0);
+        assertTrue(result.retryAfter().compareTo(Duration.ofMinutes(1)) <= 0);
+    }
+
+    @Test
+    @DisplayName("지난 주기 사용량만 합산하고, 사용량이 없으면 Redis 를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void reconcile_SendsOnlyUnsyncedUsage() {
+        // given
+        rateLimiter.tryAcquire("login:key:alice", limit);
+        rateLimiter.tryAcquire("login:key:alice", limit);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(2L));
+
+        // when
+        rateLimiter.reconcile();
+        rateLimiter.reconcile();
+
+        // then: 두 번째 reconcile 은 보낼 사용량이 없어 호출되지 않는다
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq("2"), anyString());
+        assertTrue(rateLimiter.tryAcquire("login:key:alice", limit).allowed());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로컬 버킷으로 계속 동작")
+    @SuppressWarnings("unchecked")
+    void reconcile_RedisDown_LocalOnly() {
+        // given
+        rateLimiter.tryAcquire("login:key:alice", limit);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        rateLimiter.reconcile();
+
+        // then
+        assertTrue(rateLimiter.tryAcquire("login:key:alice", limit).allowed());
+    }
+
+    @Test
+    @DisplayName("요청 처리 중에는 Redis 를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_NoRedisCall() {
+        rateLimiter.tryAcquire("login:key:alice", limit);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("여러 버킷 중 하나라도 비어 있으면 앞 버킷도 사용하지 않음")
+    void tryAcquire_Targets_ChecksAllBeforeConsuming() {
+        // given
+        Limit one = new Limit();
+        one.setLimit(1);
+        one.setWindow(Duration.ofMinutes(1));
+        rateLimiter.tryAcquire("login:key:alice|1.1.1.1", one);
+
+        // when
+        RateLimitResult result = rateLimiter.tryAcquire(List.of(
+                new LocalRateLimiter.Target("login:ip:1.1.1.1", limit),
+                new LocalRateLimiter.Target("login:key:alice|1.1.1.1", one)));
+
+        // then
+        assertFalse(result.allowed());
+        assertEquals(1, result.rejectedRule());
+        assertEquals(2, rateLimiter.tryAcquire("login:ip:1.1.1.1", limit).remaining());
+    }
+
+    @Test
+    @DisplayName("지난 주기에 사용된 버킷만 합산")
+    @SuppressWarnings("unchecked")
+    void reconcile_OnlyDirtyBuckets() {
+        // given
+        rateLimiter.tryAcquire("login:key:alice", limit);
+        rateLimiter.tryAcquire("login:key:bob", limit);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(1L, 1L));
+        rateLimiter.reconcile();
+
+        // when
+        rateLimiter.tryAcquire("login:key:bob", limit);
+        rateLimiter.reconcile();
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertEquals(2, keys.getAllValues().get(0).size());
+        assertEquals(1, keys.getAllValues().get(1).size());
+        assertTrue(keys.getAllValues().get(1).get(0).startsWith("RATE_LIMIT:login:key:bob:"));
+    }
+}
@@ -0,0 +1,246 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.youthfi.auth.global.config.properties.RateLimitProperties;
+import com.youthfi.auth.global.config.properties.RateLimitProperties.Endpoint;
+import com.youthfi.auth.global.config.properties.RateLimitProperties.Limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RateLimitFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        Endpoint login = new Endpoint();
+        login.setName("login");
+        login.setPath("/api/auth/login");
+        login.setKeyField("userId");
+        login.setPerIp(limit(5));
+        login.setPerKeyIp(limit(2));
+        login.setPerKey(limit(4));
+        login.setGlobal(limit(100));
+
+        Endpoint social = new Endpoint();
+        social.setName("social-login");
+        social.setPath("/api/auth/login/{provider}");
+        social.setPerIp(limit(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setClientIpHeader("X-Forwarded-For");
+        properties.setEndpoints(List.of(login, social));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new LocalRateLimiter(redisTemplate, properties),
+                Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 IP 에서 같은 userId 로 한도를 넘으면 컨트롤러 전에 429 + Retry-After")
+    void login_PerKeyLimit_Rejects() throws Exception {
+        // given
+        filter.doFilter(loginRequest("1.1.1.1", "alice"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(loginRequest("1.1.1.1", "Alice"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        filter.doFilter(loginRequest("1.1.1.1", "alice"), response, filterChain);
+
+        // then
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertEquals("0", response.getHeader(RateLimitResult.REMAINING_HEADER));
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("COMMON429"));
+        assertNull(filterChain.getRequest());
+        assertEquals(1.0, meterRegistry.get("auth.rate_limit.rejected").tag("scope", "key-ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("다른 IP 에서 같은 userId 로 요청을 몰아도 그 계정의 다른 IP 로그인은 막히지 않음")
+    void login_PerKeyLimit_OtherIpNotLockedOut() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(loginRequest("6.6.6.6", "alice"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        // when
+        MockFilterChain filterChain = new MockFilterChain();
+        filter.doFilter(loginRequest("1.1.1.1", "alice"), new MockHttpServletResponse(), filterChain);
+
+        // then
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("같은 userId 로 여러 IP 에서 나눠 보내도 userId 한도를 넘으면 거부")
+    void login_PerKeyLimit_RejectsAcrossIps() throws Exception {
+        // given: IP 마다 (key, IP) 한도(2) 안에서 1번씩, userId 한도(4) 소진
+        for (int i = 0; i < 4; i++) {
+            filter.doFilter(loginRequest("6.6.6." + i, "alice"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        filter.doFilter(loginRequest("7.7.7.7", "alice"), response, filterChain);
+
+        // then
+        assertEquals(429, response.getStatus());
+        assertNull(filterChain.getRequest());
+        assertEquals(1.0, meterRegistry.get("auth.rate_limit.rejected").tag("scope", "key").counter().count());
+    }
+
+    @Test
+    @DisplayName("뒤 단계(key-ip)에서 거부되면 앞 단계(IP) 버킷은 소모되지 않음")
+    void login_RejectedByKey_DoesNotConsumeIp() throws Exception {
+        // given: (key, IP) 한도 2 소진 후 같은 userId 로 3번 더 거부 (IP 한도 5)
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(loginRequest("1.1.1.1", "alice"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        // when: 같은 IP 에서 남은 IP 한도(3) 만큼 다른 userId 로 요청
+        MockFilterChain filterChain = new MockFilterChain();
+        for (int i = 0; i < 3; i++) {
+            filterChain = new MockFilterChain();
+            filter.doFilter(loginRequest("1.1.1.1", "bob" + i), new MockHttpServletResponse(), filterChain);
+        }
+
+        // then
+        assertNotNull(filterChain.getRequest());
+        assertEquals(3.0, meterRegistry.get("auth.rate_limit.rejected").tag("scope", "key-ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("한도 안의 요청은 본문을 그대로 읽을 수 있게 다음 필터로 전달")
+    void login_Allowed_ReplaysBody() throws Exception {
+        // given
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        filter.doFilter(loginRequest("1.1.1.1", "alice"), new MockHttpServletResponse(), filterChain);
+
+        // then
+        assertNotNull(filterChain.getRequest());
+        String body = new String(filterChain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals("{\"userId\":\"alice\",\"password\":\"pw\"}", body);
+    }
+
+    @Test
+    @DisplayName("전달된 요청 본문은 비동기 읽기(ReadListener)도 지원")
+    void login_Allowed_SupportsReadListener() throws Exception {
+        // given
+        MockFilterChain filterChain = new MockFilterChain();
+        filter.doFilter(loginRequest("1.1.1.1", "alice"), new MockHttpServletResponse(), filterChain);
+        ServletInputStream input = filterChain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // when
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[16];
+                int n;
+                while (input.isReady() && (n = input.read(buffer)) != -1) {
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+
+        // then
+        assertTrue(allDataRead.get());
+        assertTrue(input.isFinished());
+        assertEquals("{\"userId\":\"alice\",\"password\":\"pw\"}", read.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("IP 는 프록시가 마지막에 덧붙인 값 기준 (앞쪽 위조 값 무시)")
+    void socialLogin_PerIpLimit_UsesLastForwardedValue() throws Exception {
+        // given
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/api/auth/login/kakao");
+        first.addHeader("X-Forwarded-For", "9.9.9.1, 1.1.1.1");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", "/api/auth/login/google");
+        second.addHeader("X-Forwarded-For", "9.9.9.2, 1.1.1.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(second, response, new MockFilterChain());
+
+        // then
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 경로는 제한하지 않음")
+    void otherPath_NotFiltered() throws Exception {
+        // given
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            filterChain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/profile"), new MockHttpServletResponse(), filterChain);
+        }
+
+        // then
+        assertNotNull(filterChain.getRequest());
+    }
+
+    private static MockHttpServletRequest loginRequest(String ip, String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"userId\":\"" + userId + "\",\"password\":\"pw\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static Limit limit(long value) {
+        Limit limit = new Limit();
+        limit.setLimit(value);
+        limit.setWindow(Duration.ofMinutes(1));
+        return limit;
+    }
+}
@@ -0,0 +1,101 @@
+package com.youthfi.auth.global.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRateLimiter 테스트")
+class RedisRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks
+    private RedisRateLimiter redisRateLimiter;
+
+    @Test
+    @DisplayName("모든 규칙을 키/한도/윈도우(ms) 순서로 스크립트 1회에 넘기고, quota 규칙이 없으면 가장 적은 남은 횟수 반환")
+    @SuppressWarnings("unchecked")
+    void tryConsume_Allowed() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("COOLDOWN:a", "DAILY:a")),
+                eq("1"), eq("60000"), eq("5"), eq("86400000")))
+                .thenReturn(List.of(1L, 0L, 0L, 3L, 4L));
+
+        // when
+        RateLimitResult result = redisRateLimiter.tryConsume(
+                RateLimitRule.of("COOLDOWN:a", 1, Duration.ofSeconds(60)),
+                RateLimitRule.of("DAILY:a", 5, Duration.ofDays(1)));
+
+        // then
+        assertTrue(result.allowed());
+        assertEquals(3, result.remaining());
+        assertEquals(-1, result.rejectedRule());
+        HttpHeaders headers = result.toHeaders();
+        assertEquals("3", headers.getFirst(RateLimitResult.REMAINING_HEADER));
+        assertNull(headers.getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("quota 규칙이 있으면 그 규칙의 남은 횟수 반환 (한도 1인 쿨다운 규칙은 무시)")
+    @SuppressWarnings("unchecked")
+    void tryConsume_QuotaRule_ReportsQuotaRemaining() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("COOLDOWN:a", "DAILY:a")), any(Object[].class)))
+                .thenReturn(List.of(1L, 0L, 0L, 0L, 4L));
+
+        // when
+        RateLimitResult result = redisRateLimiter.tryConsume(
+                RateLimitRule.of("COOLDOWN:a", 1, Duration.ofSeconds(60)),
+                RateLimitRule.quota("DAILY:a", 5, Duration.ofDays(1)));
+
+        // then
+        assertTrue(result.allowed());
+        assertEquals("4", result.toHeaders().getFirst(RateLimitResult.REMAINING_HEADER));
+    }
+
+    @Test
+    @DisplayName("거부 시 거부한 규칙과 Retry-After(초, 올림) 반환")
+    @SuppressWarnings("unchecked")
+    void tryConsume_Rejected() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("COOLDOWN:a", "DAILY:a")),
+                any(), any(), any(), any()))
+                .thenReturn(List.of(0L, 41_200L, 2L, 1L, 0L));
+
+        // when
+        RateLimitResult result = redisRateLimiter.tryConsume(
+                RateLimitRule.of("COOLDOWN:a", 1, Duration.ofSeconds(60)),
+                RateLimitRule.of("DAILY:a", 5, Duration.ofDays(1)));
+
+        // then
+        assertFalse(result.allowed());
+        assertEquals(1, result.rejectedRule());
+        assertEquals(Duration.ofMillis(41_200), result.retryAfter());
+        assertEquals("42", result.toHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("0", result.toHeaders().getFirst(RateLimitResult.REMAINING_HEADER));
+    }
+
+    @Test
+    @DisplayName("한도를 확인하지 못한 결과는 헤더를 붙이지 않음")
+    void unknown_NoHeaders() {
+        assertTrue(RateLimitResult.UNKNOWN.toHeaders().isEmpty());
+    }
+}
@@ -0,0 +1,37 @@
+package com.youthfi.auth.global.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.youthfi.auth.global.config.properties.PasswordHashingProperties;
+
+@DisplayName("BcryptCalibration 테스트")
+class BcryptCalibrationTest {
+
+    @Test
+    @DisplayName("목표 시간을 넘지 않는 가장 큰 cost 선택")
+    void select_LargestStrengthWithinTarget() {
+        // cost 10 = 20ms → 11 = 40ms → 12 = 80ms → 13 = 160ms
+        assertEquals(12, BcryptCalibration.select(Duration.ofMillis(20).toNanos(), Duration.ofMillis(100), 10, 14));
+        assertEquals(13, BcryptCalibration.select(Duration.ofMillis(20).toNanos(), Duration.ofMillis(160), 10, 14));
+    }
+
+    @Test
+    @DisplayName("느린 하드웨어에서도 최소 cost, 빠른 하드웨어에서도 최대 cost 를 넘지 않음")
+    void select_ClampsToRange() {
+        assertEquals(10, BcryptCalibration.select(Duration.ofMillis(500).toNanos(), Duration.ofMillis(100), 10, 14));
+        assertEquals(14, BcryptCalibration.select(Duration.ofMillis(1).toNanos(), Duration.ofMillis(100), 10, 14));
+    }
+
+    @Test
+    @DisplayName("cost 고정값이 있으면 측정하지 않음")
+    void strength_FixedStrength() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(11);
+
+        assertEquals(11, BcryptCalibration.strength(properties));
+    }
+}
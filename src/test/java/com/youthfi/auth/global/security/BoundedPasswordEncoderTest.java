@@ -0,0 +1,123 @@
+package com.youthfi.auth.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.youthfi.auth.global.config.properties.PasswordHashingProperties;
+import com.youthfi.auth.global.exception.RestApiException;
+import com.youthfi.auth.global.exception.code.status.GlobalErrorStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 결과를 전용 풀에서 받아오고 실행 시간을 기록")
+    void matches_RecordsTimer() {
+        // given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), properties(1, 1, Duration.ofSeconds(1)), meterRegistry);
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertTrue(encoder.matches("password", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 기다리지 않고 429")
+    void matches_Saturated_RejectsWith429() throws Exception {
+        // given: 스레드 1개, 대기열 1개를 모두 점유
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), properties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "{hash}a"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "{hash}b"));
+        awaitQueued(1);
+
+        // when
+        RestApiException exception = assertThrows(RestApiException.class, () -> encoder.matches("c", "{hash}c"));
+
+        // then
+        assertEquals(GlobalErrorStatus._TOO_MANY_REQUEST.getCode(), exception.getErrorCode());
+        assertEquals(1.0, meterRegistry.get("auth.password.hash.rejected").counter().count());
+        release.countDown();
+        assertTrue(running.get(1, TimeUnit.SECONDS));
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않으면 429")
+    void matches_Timeout_RejectsWith429() {
+        // given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), properties(1, 1, Duration.ofMillis(50)), meterRegistry);
+
+        // when
+        RestApiException exception = assertThrows(RestApiException.class, () -> encoder.matches("a", "{hash}a"));
+
+        // then
+        assertEquals(GlobalErrorStatus._TOO_MANY_REQUEST.getCode(), exception.getErrorCode());
+    }
+
+    private void awaitQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < size
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordHashingProperties properties(int poolSize, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+
+    // latch 가 있으면 풀려날 때까지 해시를 붙잡고 있는 테스트용 인코더
+    private record PrefixEncoder(CountDownLatch latch) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{hash}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.youthfi.auth.global.security;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.youthfi.auth.global.security.ExcludeAuthPathProperties.AuthPath;
+
+@DisplayName("ExcludedPathMatcher 테스트")
+class ExcludedPathMatcherTest {
+
+    private static final List<AuthPath> AUTH_PATHS = List.of(
+            new AuthPath("/api/auth/login", "POST"),
+            new AuthPath("/api/auth/login/*", "POST"),
+            new AuthPath("/api/auth/oauth2/callback/**", "GET"),
+            new AuthPath("/api/email/**", "POST"),
+            new AuthPath("/v3/api-docs", "GET"),
+            new AuthPath("/actuator/**", "GET"),
+            new AuthPath("/**", "OPTIONS")
+    );
+
+    private final ExcludedPathMatcher matcher = new ExcludedPathMatcher(AUTH_PATHS);
+
+    @Test
+    @DisplayName("메서드별 리터럴/접두사/와일드카드 패턴 판정")
+    void matches_ByMethodAndPattern() {
+        assertTrue(matcher.matches("POST", "/api/auth/login"));
+        assertTrue(matcher.matches("POST", "/api/auth/login/google"));
+        assertTrue(matcher.matches("GET", "/actuator/prometheus"));
+        assertTrue(matcher.matches("GET", "/actuator"));
+        assertTrue(matcher.matches("OPTIONS", "/api/user/profile"));
+
+        assertFalse(matcher.matches("GET", "/api/auth/login"));
+        assertFalse(matcher.matches("POST", "/api/auth/login/google/extra"));
+        assertFalse(matcher.matches("GET", "/actuatorx"));
+        assertFalse(matcher.matches("GET", "/api/user/profile"));
+    }
+
+    @Test
+    @DisplayName("요청마다 PathPattern 을 파싱하던 기존 판정과 결과가 같음")
+    void matches_SameAsPathPattern() {
+        List<String> methods = List.of("GET", "POST", "OPTIONS", "DELETE");
+        List<String> paths = List.of(
+                "/api/auth/login", "/api/auth/login/", "/api/auth/login/kakao", "/api/auth/login;jsessionid=1",
+                "/api/auth/%6Cogin", "/api/auth/oauth2/callback", "/api/auth/oauth2/callback/google/x",
+                "/api/email", "/api/email/send", "/api/emails", "/v3/api-docs", "/v3/api-docs/", "/actuator/",
+                "/actuator//health", "/", "/api/user/profile"
+        );
+
+        for (String method : methods) {
+            for (String path : paths) {
+                assertEquals(legacyMatches(method, path), matcher.matches(method, path), method + " " + path);
+            }
+        }
+    }
+
+    private static boolean legacyMatches(String method, String path) {
+        PathPatternParser parser = new PathPatternParser();
+        return AUTH_PATHS.stream().anyMatch(authPath ->
+                parser.parse(authPath.getPathPattern()).matches(PathContainer.parsePath(path))
+                        && method.equals(authPath.getMethod()));
+    }
+}
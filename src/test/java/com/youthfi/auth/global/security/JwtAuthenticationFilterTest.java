@@ -0,0 +1,87 @@
+package com.youthfi.auth.global.security;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.youthfi.auth.domain.auth.domain.service.RefreshTokenService;
+import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.youthfi.auth.global.security.ExcludeAuthPathProperties.AuthPath;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenWhitelistService tokenWhitelistService;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        ExcludeAuthPathProperties properties = new ExcludeAuthPathProperties(List.of(new AuthPath("/api/auth/login", "POST")));
+        filter = new JwtAuthenticationFilter(tokenProvider, properties, refreshTokenService, tokenWhitelistService);
+        request = new MockHttpServletRequest("GET", "/api/user/profile");
+        response = new MockHttpServletResponse();
+        filterChain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 미리 만든 401 본문 응답")
+    void missingToken_Unauthorized() throws Exception {
+        // given
+        when(tokenProvider.resolveToken(request)).thenReturn(null);
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        assertEquals("{\"message\": \"JWT가 없습니다.\"}", response.getContentAsString());
+        assertNull(filterChain.getRequest());
+        verify(tokenWhitelistService, never()).findLocal(anyString());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 401")
+    void invalidToken_Unauthorized() throws Exception {
+        // given
+        when(tokenProvider.resolveToken(request)).thenReturn("invalid.token");
+        when(tokenWhitelistService.findLocal("invalid.token")).thenReturn(Optional.empty());
+        when(tokenWhitelistService.isWhitelistToken("invalid.token")).thenReturn(false);
+        when(tokenProvider.resolveVerifiedToken(request, "invalid.token")).thenReturn(Optional.empty());
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals("{\"message\": \"유효하지 않은 ACCESS TOKEN입니다.\"}", response.getContentAsString());
+        assertNull(filterChain.getRequest());
+    }
+}
@@ -0,0 +1,165 @@
+package com.youthfi.auth.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+@DisplayName("JwtKeyHolder 키링 테스트")
+class JwtKeyHolderTest {
+
+    private static final String LEGACY_SECRET = "legacy-secret-key-for-testing-purposes-only-very-long-key";
+
+    @TempDir
+    Path tempDir;
+
+    private Path keyringFile;
+    private JwtProperties jwtProperties;
+    private KeyPair firstKeyPair;
+    private KeyPair secondKeyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        firstKeyPair = generator.generateKeyPair();
+        secondKeyPair = generator.generateKeyPair();
+
+        keyringFile = tempDir.resolve("keyring.json");
+        jwtProperties = new JwtProperties();
+        jwtProperties.setKeyringLocation(keyringFile.toString());
+        jwtProperties.setAccessTokenExpirationMs(900_000L);
+        jwtProperties.setRefreshTokenExpirationMs(1_209_600_000L);
+        jwtProperties.setVerificationExpirationMs(900_000L);
+    }
+
+    @Test
+    @DisplayName("kid 로 키를 골라 검증하고, kid 없는 이전 토큰은 fallback 키로 검증")
+    void verify_SelectsKeyByKid() throws Exception {
+        // given
+        writeKeyring("""
+                {"active": "k1", "fallback": "legacy", "keys": [%s, %s]}
+                """.formatted(rsaKey("k1", firstKeyPair, true), legacyKey()), 1);
+        JwtKeyHolder jwtKeyHolder = keyHolder();
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+        String legacyToken = legacyToken();
+
+        // when
+        String token = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertEquals("k1", jwtKeyHolder.getActiveKey().keyId());
+        assertEquals("testuser", tokenProvider.verify(token).orElseThrow().id());
+        assertEquals("legacy-user", tokenProvider.verify(legacyToken).orElseThrow().id());
+        assertEquals(1, jwtKeyHolder.getJwks().size());
+    }
+
+    @Test
+    @DisplayName("키링 교체 후에도 retiring 키로 발급된 토큰은 유효")
+    void reload_RotatesActiveKeyAndKeepsRetiringKey() throws Exception {
+        // given
+        writeKeyring("""
+                {"active": "k1", "keys": [%s]}
+                """.formatted(rsaKey("k1", firstKeyPair, true)), 1);
+        JwtKeyHolder jwtKeyHolder = keyHolder();
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+        String oldToken = tokenProvider.createAccessToken("testuser");
+
+        // when
+        writeKeyring("""
+                {"active": "k2", "keys": [%s, %s]}
+                """.formatted(rsaKey("k2", secondKeyPair, true), rsaKey("k1", firstKeyPair, false)), 2);
+        jwtKeyHolder.reload();
+        String newToken = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertEquals("k2", jwtKeyHolder.getActiveKey().keyId());
+        assertTrue(tokenProvider.verify(oldToken).isPresent());
+        assertTrue(tokenProvider.verify(newToken).isPresent());
+        assertEquals(2, jwtKeyHolder.getJwks().size());
+    }
+
+    @Test
+    @DisplayName("잘못된 키링 파일이면 기존 키링 유지")
+    void reload_InvalidFile_KeepsPreviousKeyring() throws Exception {
+        // given
+        writeKeyring("""
+                {"active": "k1", "keys": [%s]}
+                """.formatted(rsaKey("k1", firstKeyPair, true)), 1);
+        JwtKeyHolder jwtKeyHolder = keyHolder();
+
+        // when
+        writeKeyring("{\"active\": \"missing\", \"keys\": []}", 2);
+        jwtKeyHolder.reload();
+
+        // then
+        assertEquals("k1", jwtKeyHolder.getActiveKey().keyId());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid 이거나 kid 와 alg 가 다르면 거부")
+    void verify_UnknownKidOrAlgorithmMismatch_Rejected() throws Exception {
+        // given
+        writeKeyring("""
+                {"active": "k1", "keys": [%s]}
+                """.formatted(rsaKey("k1", firstKeyPair, true)), 1);
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, keyHolder());
+        String unknownKid = Jwts.builder().setHeaderParam("kid", "unknown").claim("id", "testuser")
+                .signWith(secondKeyPair.getPrivate(), SignatureAlgorithm.RS256).compact();
+        String mismatched = Jwts.builder().setHeaderParam("kid", "k1").claim("id", "testuser")
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertTrue(tokenProvider.verify(unknownKid).isEmpty());
+        assertTrue(tokenProvider.verify(mismatched).isEmpty());
+    }
+
+    private JwtKeyHolder keyHolder() {
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        return jwtKeyHolder;
+    }
+
+    private void writeKeyring(String json, long version) throws Exception {
+        Files.writeString(keyringFile, json);
+        Files.setLastModifiedTime(keyringFile, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + version)));
+    }
+
+    private static String rsaKey(String kid, KeyPair keyPair, boolean withPrivateKey) {
+        String privateKey = withPrivateKey
+                ? ", \"privateKey\": \"" + Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()) + "\""
+                : "";
+        return "{\"kid\": \"" + kid + "\", \"algorithm\": \"RS256\", \"publicKey\": \""
+                + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()) + "\"" + privateKey + "}";
+    }
+
+    private static String legacyKey() {
+        return "{\"kid\": \"legacy\", \"algorithm\": \"HS256\", \"secret\": \"" + LEGACY_SECRET + "\"}";
+    }
+
+    private static String legacyToken() {
+        return Jwts.builder()
+                .setSubject("AccessToken")
+                .claim("id", "legacy-user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
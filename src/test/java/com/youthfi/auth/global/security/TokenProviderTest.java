@@ -0,0 +1,158 @@
+package com.youthfi.auth.global.security;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.jsonwebtoken.Jwts;
+
+@DisplayName("TokenProvider 서명 알고리즘 테스트")
+class TokenProviderTest {
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAlgorithm("HS256");
+        jwtProperties.setAccessTokenExpirationMs(900_000L);
+        jwtProperties.setRefreshTokenExpirationMs(1_209_600_000L);
+        jwtProperties.setVerificationExpirationMs(900_000L);
+    }
+
+    @Test
+    @DisplayName("HS256 - kid 없이 발급하고 JWKS 는 비어 있음")
+    void hs256_NoKidAndEmptyJwks() {
+        // given
+        JwtKeyHolder jwtKeyHolder = keyHolder();
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+
+        // when
+        String token = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertTrue(tokenProvider.verify(token).isPresent());
+        assertFalse(header(token).contains("\"kid\""));
+        assertTrue(jwtKeyHolder.getJwks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("RS256 - kid 를 헤더에 넣고 공개 키만으로 검증 가능")
+    void rs256_SignAndVerifyWithPublicKey() throws Exception {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        useKeyPair("RS256", "rsa-1", keyPair);
+        JwtKeyHolder jwtKeyHolder = keyHolder();
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+
+        // when
+        String token = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertEquals("testuser", tokenProvider.verify(token).orElseThrow().id());
+        assertEquals("rsa-1", Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build()
+                .parseClaimsJws(token).getHeader().getKeyId());
+        List<Map<String, Object>> jwks = jwtKeyHolder.getJwks();
+        assertEquals(1, jwks.size());
+        assertEquals("RSA", jwks.get(0).get("kty"));
+        assertEquals("RS256", jwks.get(0).get("alg"));
+        assertEquals("rsa-1", jwks.get(0).get("kid"));
+        assertEquals("AQAB", jwks.get(0).get("e"));
+    }
+
+    @Test
+    @DisplayName("ES256 - P-256 좌표를 32바이트로 공개")
+    void es256_SignAndPublishCoordinates() throws Exception {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        useKeyPair("ES256", "ec-1", generator.generateKeyPair());
+        JwtKeyHolder jwtKeyHolder = keyHolder();
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, jwtKeyHolder);
+
+        // when
+        String token = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertEquals("testuser", tokenProvider.verify(token).orElseThrow().id());
+        Map<String, Object> jwk = jwtKeyHolder.getJwks().get(0);
+        assertEquals("P-256", jwk.get("crv"));
+        assertEquals(32, Base64.getUrlDecoder().decode((String) jwk.get("x")).length);
+        assertEquals(32, Base64.getUrlDecoder().decode((String) jwk.get("y")).length);
+    }
+
+    @Test
+    @DisplayName("HS256 토큰은 RS256 설정에서 거부")
+    void rs256_RejectsHs256Token() throws Exception {
+        // given
+        String hsToken = new TokenProvider(jwtProperties, keyHolder()).createAccessToken("testuser");
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        useKeyPair("RS256", "rsa-1", generator.generateKeyPair());
+
+        // when
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, keyHolder());
+
+        // then
+        assertTrue(tokenProvider.verify(hsToken).isEmpty());
+        assertNull(tokenProvider.getId(hsToken).orElse(null));
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더에서 Bearer 토큰만 추출")
+    void resolveToken_BearerPrefixOnly() {
+        // given
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, keyHolder());
+        MockHttpServletRequest bearer = new MockHttpServletRequest();
+        bearer.addHeader("Authorization", "Bearer access.token");
+        MockHttpServletRequest basic = new MockHttpServletRequest();
+        basic.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+        MockHttpServletRequest empty = new MockHttpServletRequest();
+        empty.addHeader("Authorization", "Bearer ");
+
+        // when & then
+        assertEquals("access.token", tokenProvider.resolveToken(bearer));
+        assertNull(tokenProvider.resolveToken(basic));
+        assertNull(tokenProvider.resolveToken(empty));
+        assertNull(tokenProvider.resolveToken(new MockHttpServletRequest()));
+        assertEquals("access.token", tokenProvider.getToken(bearer).orElseThrow());
+    }
+
+    private JwtKeyHolder keyHolder() {
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        return jwtKeyHolder;
+    }
+
+    private void useKeyPair(String algorithm, String keyId, KeyPair keyPair) {
+        jwtProperties.setAlgorithm(algorithm);
+        jwtProperties.setKeyId(keyId);
+        jwtProperties.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        jwtProperties.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+}
@@ -0,0 +1,150 @@
+package com.youthfi.auth.global.security;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.youthfi.auth.domain.auth.domain.service.TokenBlacklistService;
+import com.youthfi.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.youthfi.auth.domain.auth.domain.service.UserStatusService;
+import com.youthfi.auth.global.config.properties.VerifyProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerifyFastPathFilter 테스트")
+class VerifyFastPathFilterTest {
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private TokenWhitelistService tokenWhitelistService;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Mock
+    private UserStatusService userStatusService;
+
+    private VerifyFastPathFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new VerifyFastPathFilter(tokenProvider, tokenWhitelistService, tokenBlacklistService,
+                userStatusService, new VerifyProperties());
+        request = new MockHttpServletRequest("GET", "/api/auth/verify");
+        response = new MockHttpServletResponse();
+        filterChain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - 200과 X-User-Id 헤더만 응답")
+    void verify_Success() throws Exception {
+        // given
+        VerifiedToken verifiedToken = verifiedToken("access.token", "testuser", TokenProvider.ACCESS_TOKEN_SUBJECT);
+        when(tokenProvider.resolveToken(request)).thenReturn("access.token");
+        when(tokenWhitelistService.findLocal("access.token")).thenReturn(Optional.of(verifiedToken));
+        when(tokenBlacklistService.isBlacklistToken("access.token")).thenReturn(false);
+        when(userStatusService.isActiveUser("testuser")).thenReturn(true);
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals("testuser", response.getHeader("X-User-Id"));
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertNull(filterChain.getRequest());
+        verify(tokenProvider, never()).verify(anyString());
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없는 토큰 - 한 번 검증 후 로컬에 캐시")
+    void verify_NotCached_VerifiesAndCachesLocal() throws Exception {
+        // given
+        VerifiedToken verifiedToken = verifiedToken("access.token", "testuser", TokenProvider.ACCESS_TOKEN_SUBJECT);
+        when(tokenProvider.resolveToken(request)).thenReturn("access.token");
+        when(tokenWhitelistService.findLocal("access.token")).thenReturn(Optional.empty());
+        when(tokenProvider.verify("access.token")).thenReturn(Optional.of(verifiedToken));
+        when(tokenBlacklistService.isBlacklistToken("access.token")).thenReturn(false);
+        when(userStatusService.isActiveUser("testuser")).thenReturn(true);
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        verify(tokenWhitelistService, times(1)).cacheLocal(verifiedToken);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 토큰 - 401")
+    void verify_Blacklisted_Unauthorized() throws Exception {
+        // given
+        VerifiedToken verifiedToken = verifiedToken("access.token", "testuser", TokenProvider.ACCESS_TOKEN_SUBJECT);
+        when(tokenProvider.resolveToken(request)).thenReturn("access.token");
+        when(tokenWhitelistService.findLocal("access.token")).thenReturn(Optional.of(verifiedToken));
+        when(tokenBlacklistService.isBlacklistToken("access.token")).thenReturn(true);
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(response.getHeader("X-User-Id"));
+        verify(userStatusService, never()).isActiveUser(anyString());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 401")
+    void verify_RefreshToken_Unauthorized() throws Exception {
+        // given
+        when(tokenProvider.resolveToken(request)).thenReturn("refresh.token");
+        when(tokenWhitelistService.findLocal("refresh.token")).thenReturn(Optional.empty());
+        when(tokenProvider.verify("refresh.token"))
+                .thenReturn(Optional.of(verifiedToken("refresh.token", "testuser", "RefreshToken")));
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
+    }
+
+    @Test
+    @DisplayName("검증 경로가 아니면 다음 필터로 전달")
+    void otherPath_PassesThrough() throws Exception {
+        // given
+        request.setRequestURI("/api/user/profile");
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(request, filterChain.getRequest());
+        verify(tokenProvider, never()).resolveToken(request);
+    }
+
+    private static VerifiedToken verifiedToken(String token, String userId, String subject) {
+        return new VerifiedToken(token, null, userId, subject, new Date(System.currentTimeMillis() + 600_000));
+    }
+}
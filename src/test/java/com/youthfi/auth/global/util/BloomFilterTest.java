@@ -0,0 +1,56 @@
+package com.youthfi.auth.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("등록한 다이제스트는 항상 포함으로 판정")
+    void put_ThenMightContain() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(TokenDigest.bytes("token-" + i));
+        }
+
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain(TokenDigest.bytes("token-" + i)));
+        }
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 다이제스트의 오탐률은 설정값 근처")
+    void mightContain_FalsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.bytes("blacklisted-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(TokenDigest.bytes("clean-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then (기대값 100건, 여유를 두고 검사)
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 아무것도 포함하지 않음")
+    void emptyFilter_ContainsNothing() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain(TokenDigest.bytes("any.token")));
+    }
+}
@@ -0,0 +1,94 @@
+package com.youthfi.auth.global.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisSyncedSet 테스트")
+class RedisSyncedSetTest {
+
+    @Mock
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    private RedisSyncedSet<Set<String>> syncedSet;
+
+    @BeforeEach
+    void setUp() {
+        syncedSet = new RedisSyncedSet<>("Test", redisSubscriptionManager, new ChannelTopic("TEST_CHANNEL"),
+                ConcurrentHashMap::newKeySet, Set::add);
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 복제본 없음")
+    void snapshot_NotSynced_ReturnsNull() {
+        assertNull(syncedSet.snapshot());
+    }
+
+    @Test
+    @DisplayName("재적재 중 들어온 등록도 새 복제본에 반영")
+    void reload_AddDuringReload_Kept() {
+        // given
+        when(redisSubscriptionManager.ensureListening()).thenReturn(true);
+        when(redisSubscriptionManager.isListening()).thenReturn(true);
+
+        // when
+        long count = syncedSet.reload(next -> {
+            next.add("loaded");
+            syncedSet.add("published");
+            return next.size();
+        });
+
+        // then
+        assertEquals(2, count);
+        assertTrue(syncedSet.snapshot().containsAll(Set.of("loaded", "published")));
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 복제본을 버리고 다음 재적재까지 Redis 조회")
+    void snapshot_SubscriptionLost_DropsCopy() {
+        // given
+        when(redisSubscriptionManager.ensureListening()).thenReturn(true);
+        syncedSet.reload(next -> 0);
+        when(redisSubscriptionManager.isListening()).thenReturn(false);
+
+        // when & then
+        assertNull(syncedSet.snapshot());
+    }
+
+    @Test
+    @DisplayName("재구독되면 복제본을 버림")
+    void onChannelSubscribed_Resubscribed_DropsCopy() {
+        // given
+        when(redisSubscriptionManager.ensureListening()).thenReturn(true);
+        syncedSet.reload(next -> 0);
+
+        // when
+        syncedSet.onChannelSubscribed("TEST_CHANNEL".getBytes(), 1);
+
+        // then
+        assertNull(syncedSet.snapshot());
+    }
+
+    @Test
+    @DisplayName("구독 불가면 재적재하지 않고 Redis 조회 유지")
+    void reload_NotListening_ReturnsMinusOne() {
+        // given
+        when(redisSubscriptionManager.ensureListening()).thenReturn(false);
+
+        // when & then
+        assertEquals(-1, syncedSet.reload(next -> 0));
+        assertNull(syncedSet.snapshot());
+    }
+}